@@ -0,0 +1,75 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+/**
+ * Per-member results of {@link BatchRomberg}: member i holds the integral of the i-th integrand, its
+ * error estimate, the evaluations it used and whether it met the tolerance. The arrays are returned as
+ * they are, not copied.
+ */
+public final class BatchIntegrationResult {
+
+	private final double[] values;
+	private final double[] errors;
+	private final long[] evaluations;
+	private final boolean[] converged;
+
+	BatchIntegrationResult(int members) {
+		this.values = new double[members];
+		this.errors = new double[members];
+		this.evaluations = new long[members];
+		this.converged = new boolean[members];
+	}
+
+	/**
+	 * @return amount of members
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * @return the estimate of the integral of each member
+	 */
+	public double[] values() {
+		return values;
+	}
+
+	/**
+	 * @return the estimate of the absolute error of each member
+	 */
+	public double[] errors() {
+		return errors;
+	}
+
+	/**
+	 * @return the evaluations of each member
+	 */
+	public long[] evaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return true for the members that met the tolerance
+	 */
+	public boolean[] converged() {
+		return converged;
+	}
+
+	/**
+	 * @return true if every member met the tolerance
+	 */
+	public boolean allConverged() {
+		for (int i = 0; i < converged.length; i++) {
+			if (!converged[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the result of member i
+	 */
+	public IntegrationResult get(int i) {
+		return new IntegrationResult(values[i], errors[i], evaluations[i], converged[i]);
+	}
+}
@@ -0,0 +1,173 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import ar.edu.austral.analisis4.functions.OneVariableVectorFunction;
+import ar.edu.austral.analisis4.functions.ParameterizedFunction;
+
+/**
+ * <p>Romberg Integration with error control of many integrands over the same interval. Every member uses
+ * the same nodes, so the nodes are generated once per level and all the members are evaluated in each of
+ * them before moving to the next one.</p>
+ *
+ * <p>The last rows of the Romberg tables are kept in structure of arrays form: entry j of member i is
+ * rows[j * members + i], so the Richardson extrapolation runs over all the members column by column. Each
+ * member stops as {@link Romberg#integrate(ar.edu.austral.analisis4.functions.OneVariableFunction, double, double, double, int)}
+ * does, when two successive diagonal entries of its table differ less than the tolerance, and is then
+ * removed from the members still refined.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * BatchIntegrationResult result = BatchRomberg.integrate(f, parameters, 0, 1, 1e-10, 20);
+ * <pre>
+ */
+public class BatchRomberg {
+
+	/**
+	 * Integrates every member of a family in [a, b]. Only the members that did not stop are evaluated
+	 * in the nodes of the next level, and each one gives the same result as integrating it alone with
+	 * {@link Romberg#integrate(ar.edu.austral.analisis4.functions.OneVariableFunction, double, double, double, int)}.
+	 * @param f family of functions
+	 * @param parameters parameter of each member
+	 * @param a starpoint
+	 * @param b endpoint
+	 * @param tolerance tolerated absolute error of each member
+	 * @param maxLevels max amount of levels, at most 2^maxLevels intervals are used
+	 * @return the estimate, the error and the evaluations of each member
+	 */
+	public static BatchIntegrationResult integrate(final ParameterizedFunction f, final double[] parameters, double a,
+			double b, double tolerance, int maxLevels) {
+		return integrate(new Integrand() {
+			void add(double x, double[] sums, int[] active, int count) {
+				for (int s = 0; s < count; s++) {
+					int i = active[s];
+					sums[i] += f.eval(x, parameters[i]);
+				}
+			}
+		}, parameters.length, a, b, tolerance, maxLevels);
+	}
+
+	/**
+	 * Integrates every component of f in [a, b]. All the components are evaluated in each node with a
+	 * single call, while at least one of them did not stop.
+	 * @param f functions
+	 * @param members amount of components of f
+	 * @param a starpoint
+	 * @param b endpoint
+	 * @param tolerance tolerated absolute error of each component
+	 * @param maxLevels max amount of levels, at most 2^maxLevels intervals are used
+	 * @return the estimate, the error and the evaluations of each component
+	 */
+	public static BatchIntegrationResult integrate(final OneVariableVectorFunction f, final int members, double a,
+			double b, double tolerance, int maxLevels) {
+		final double[] out = new double[members];
+		return integrate(new Integrand() {
+			void add(double x, double[] sums, int[] active, int count) {
+				f.eval(x, out);
+				for (int s = 0; s < count; s++) {
+					int i = active[s];
+					sums[i] += out[i];
+				}
+			}
+		}, members, a, b, tolerance, maxLevels);
+	}
+
+	private static BatchIntegrationResult integrate(Integrand f, int members, double a, double b, double tolerance,
+			int maxLevels) {
+		if (maxLevels < 0 || maxLevels > 62) {
+			throw new IllegalArgumentException("" + maxLevels);
+		}
+		final int m = members;
+		final BatchIntegrationResult result = new BatchIntegrationResult(m);
+		final double[] rows = new double[(maxLevels + 1) * m];
+		final double[] sums = new double[m];
+		final double[] blocks = new double[m];
+		final double[] previous = new double[m];
+		final double[] diagonals = new double[m];
+		// members still refined, in the first count positions
+		final int[] active = new int[m];
+		for (int i = 0; i < m; i++) {
+			active[i] = i;
+		}
+		int count = m;
+		double h = b - a;
+		f.add(a, rows, active, count);
+		f.add(b, rows, active, count);
+		for (int i = 0; i < m; i++) {
+			rows[i] = rows[i] * h / 2;
+			result.errors()[i] = Double.POSITIVE_INFINITY;
+		}
+		long evaluations = 2;
+		int level = 1;
+		for (; level <= maxLevels && count > 0; level++) {
+			long n = 1L << (level - 1); // new midpoints
+			h /= 2;
+			for (int s = 0; s < count; s++) {
+				sums[active[s]] = 0;
+			}
+			// the midpoints are added in blocks, in the same order as Romberg does
+			for (long start = 0; start < n; start += Romberg.BLOCK) {
+				long end = Math.min(start + Romberg.BLOCK, n);
+				for (int s = 0; s < count; s++) {
+					blocks[active[s]] = 0;
+				}
+				for (long j = start; j < end; j++) {
+					f.add(a + (2 * j + 1) * h, blocks, active, count);
+				}
+				for (int s = 0; s < count; s++) {
+					int i = active[s];
+					sums[i] += blocks[i];
+				}
+			}
+			evaluations += n;
+			// first column: the trapezoid of the new level
+			for (int s = 0; s < count; s++) {
+				int i = active[s];
+				diagonals[i] = rows[(level - 1) * m + i];
+				previous[i] = rows[i];
+				rows[i] = rows[i] / 2 + h * sums[i];
+			}
+			// Richardson extrapolation, one column at a time
+			double c = 1;
+			for (int j = 1; j <= level; j++) {
+				c *= 4;
+				int column = j * m;
+				int left = column - m;
+				for (int s = 0; s < count; s++) {
+					int i = active[s];
+					double next = rows[column + i];
+					rows[column + i] = ((c * rows[left + i]) - previous[i]) / (c - 1);
+					previous[i] = next;
+				}
+			}
+			int remaining = 0;
+			for (int s = 0; s < count; s++) {
+				int i = active[s];
+				double value = rows[level * m + i];
+				double error = Math.abs(value - diagonals[i]);
+				result.values()[i] = value;
+				result.errors()[i] = error;
+				result.evaluations()[i] = evaluations;
+				if (level >= Romberg.MIN_LEVELS && error <= tolerance) {
+					result.converged()[i] = true;
+				} else {
+					active[remaining++] = i;
+				}
+			}
+			count = remaining;
+		}
+		if (level == 1) {
+			// no levels: the trapezoid
+			for (int i = 0; i < m; i++) {
+				result.values()[i] = rows[i];
+				result.evaluations()[i] = evaluations;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the value of the active members in a node to their sums
+	 */
+	private abstract static class Integrand {
+		abstract void add(double x, double[] sums, int[] active, int count);
+	}
+}
@@ -0,0 +1,131 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
+import ar.edu.austral.analisis4.methods.interpolators.CubicSpline;
+
+/**
+ * <p>Running integral F(x) = integral of f from a to x, computed in a single pass over a grid. The value
+ * in each point of the grid is the value in the previous one plus the integral of a single interval, so all
+ * of them cost as much as one integral of the whole grid.</p>
+ *
+ * <p>The values are interpolated with a Hermite {@link CubicSpline}, which also matches F' = f in the
+ * points, so F can be evaluated in any x of the grid in O(log n), and in O(1) when the queries are sorted.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * OneVariableFunction F = CumulativeIntegral.integrate(f, 0, 10, 1000, true);
+ * double area = F.eval(3.5);
+ * <pre>
+ */
+public class CumulativeIntegral {
+
+	/**
+	 * Running integral of a tabulated function with the trapezoid rule
+	 * @param x ascending x values, at least two
+	 * @param y y values
+	 * @return the integral from x[0] to each x[i]
+	 */
+	public static double[] trapezoid(double[] x, double[] y) {
+		check(x, y);
+		final double[] running = new double[x.length];
+		for (int i = 1; i < x.length; i++) {
+			running[i] = running[i - 1] + (x[i] - x[i - 1]) * (y[i - 1] + y[i]) / 2;
+		}
+		return running;
+	}
+
+	/**
+	 * Running integral of a tabulated function with Simpson: each interval is integrated with the parabola
+	 * through its ends and the next point (the previous point for the last interval), so the points do not
+	 * need to be equally spaced nor odd in number. With two points it is the trapezoid.
+	 * @param x ascending x values, at least two
+	 * @param y y values
+	 * @return the integral from x[0] to each x[i]
+	 */
+	public static double[] simpson(double[] x, double[] y) {
+		check(x, y);
+		final int n = x.length;
+		if (n == 2) {
+			return trapezoid(x, y);
+		}
+		final double[] running = new double[n];
+		for (int i = 0; i < n - 2; i++) {
+			double h0 = x[i + 1] - x[i];
+			double h1 = x[i + 2] - x[i + 1];
+			double h = h0 + h1;
+			running[i + 1] = running[i] + h0 * (y[i] * (3 * h - h0) / h + y[i + 1] * (3 * h - 2 * h0) / h1
+					- y[i + 2] * h0 * h0 / (h * h1)) / 6;
+		}
+		// last interval, with the parabola through the previous point
+		double h0 = x[n - 2] - x[n - 3];
+		double h1 = x[n - 1] - x[n - 2];
+		double h = h0 + h1;
+		running[n - 1] = running[n - 2] + h1 * (y[n - 1] * (3 * h - h1) / h + y[n - 2] * (3 * h - 2 * h1) / h0
+				- y[n - 3] * h1 * h1 / (h * h0)) / 6;
+		return running;
+	}
+
+	/**
+	 * Running integral of a tabulated function, interpolated
+	 * @param x ascending x values, at least two
+	 * @param y y values
+	 * @param simpson true to integrate with {@link #simpson(double[], double[])}, false with {@link #trapezoid(double[], double[])}
+	 * @return F, 0 outside [x[0], x[x.length - 1]]
+	 */
+	public static CubicSpline interpolate(double[] x, double[] y, boolean simpson) {
+		return CubicSpline.interpolateHermite(x, simpson ? simpson(x, y) : trapezoid(x, y), y);
+	}
+
+	/**
+	 * Running integral of f from a, with the trapezoid rule in n equal intervals of [a, b]. With Richardson
+	 * correction f is also evaluated in the midpoints, and the running trapezoid T(h/2) of each point is
+	 * corrected to T(h/2) + (T(h/2) - T(h)) / 3, which is exact for cubics.
+	 * @param f Function
+	 * @param a starpoint
+	 * @param b endpoint
+	 * @param n amount of intervals
+	 * @param richardson true to apply the Richardson correction, with 2n + 1 evaluations instead of n + 1
+	 * @return F, interpolated between the n + 1 points, 0 outside [a, b]
+	 */
+	public static CubicSpline integrate(OneVariableFunction f, double a, double b, int n, boolean richardson) {
+		if (n < 1) {
+			throw new IllegalArgumentException("" + n);
+		}
+		final int m = richardson ? 2 * n : n;
+		final double[] t = new double[m + 1];
+		final double step = (b - a) / m;
+		for (int i = 0; i <= m; i++) {
+			t[i] = a + i * step;
+		}
+		OneVariableFunctions.eval(f, t, t, 0, m + 1);
+		final double[] x = new double[n + 1];
+		final double[] running = new double[n + 1];
+		final double[] y = new double[n + 1];
+		final double h = (b - a) / n;
+		x[0] = a;
+		y[0] = t[0];
+		for (int i = 1; i <= n; i++) {
+			x[i] = a + i * h;
+			if (richardson) {
+				double coarse = h * (t[2 * i - 2] + t[2 * i]) / 2;
+				double fine = h * (t[2 * i - 2] + 2 * t[2 * i - 1] + t[2 * i]) / 4;
+				running[i] = running[i - 1] + fine + (fine - coarse) / 3;
+				y[i] = t[2 * i];
+			} else {
+				running[i] = running[i - 1] + h * (t[i - 1] + t[i]) / 2;
+				y[i] = t[i];
+			}
+		}
+		return CubicSpline.interpolateHermite(x, running, y);
+	}
+
+	private static void check(double[] x, double[] y) {
+		if (x.length != y.length) {
+			throw new IllegalArgumentException(x.length + " != " + y.length);
+		}
+		if (x.length < 2) {
+			throw new IllegalArgumentException("points: " + x.length + " < 2");
+		}
+	}
+}
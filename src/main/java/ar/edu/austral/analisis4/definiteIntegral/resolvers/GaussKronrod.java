@@ -0,0 +1,404 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+import ar.edu.austral.analisis4.functions.TwoVariableFunctions;
+
+/**
+ * <p>Adaptive Gauss-Kronrod quadrature. A Kronrod rule of 2n+1 points contains the n points of a Gauss
+ * rule, so both are computed with the same evaluations and their difference estimates the error of the
+ * (much more accurate) Kronrod result.</p>
+ *
+ * <p>The subintervals are kept in a heap ordered by their error estimate. While the total error is over
+ * the tolerance, the subinterval with the largest error is halved, so the evaluations go where the
+ * integrand needs them: peaks, kinks and integrable singularities in the endpoints. The error estimates
+ * are scaled as in QUADPACK.</p>
+ *
+ * <p>Functions of two variables are integrated with the tensor product of the rule over rectangles, which
+ * are split in the same way.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * IntegrationResult result = GaussKronrod.createG7K15().integrate(f, 0, 1, 1e-10, 1e-10, 100000);
+ * <pre>
+ */
+public class GaussKronrod {
+
+	/** Relative machine precision */
+	private static final double EPSILON = Math.ulp(1.0);
+
+	/** Smallest positive normal number */
+	private static final double UNDERFLOW = Double.MIN_NORMAL;
+
+	/** Kronrod nodes in [0, 1], in descending order, the last one is 0 */
+	private final double[] nodes;
+	private final double[] kronrodWeights;
+	/** Gauss weight of each Kronrod node, 0 for the nodes that are not Gauss nodes */
+	private final double[] gaussWeights;
+
+	/** The rule in [-1, 1]: every node with its weights, in the order the one variable rule evaluates them */
+	private final double[] abscissas;
+	private final double[] fullKronrodWeights;
+	private final double[] fullGaussWeights;
+
+	private GaussKronrod(double[] nodes, double[] kronrodWeights, double[] gaussWeights) {
+		this.nodes = nodes;
+		this.kronrodWeights = kronrodWeights;
+		this.gaussWeights = gaussWeights;
+		final int m = nodes.length - 1;
+		this.abscissas = new double[2 * m + 1];
+		this.fullKronrodWeights = new double[2 * m + 1];
+		this.fullGaussWeights = new double[2 * m + 1];
+		for (int i = 0; i <= m; i++) {
+			abscissas[2 * i] = -nodes[i];
+			fullKronrodWeights[2 * i] = kronrodWeights[i];
+			fullGaussWeights[2 * i] = gaussWeights[i];
+			if (i < m) {
+				abscissas[2 * i + 1] = nodes[i];
+				fullKronrodWeights[2 * i + 1] = kronrodWeights[i];
+				fullGaussWeights[2 * i + 1] = gaussWeights[i];
+			}
+		}
+	}
+
+	/**
+	 * @return 7 point Gauss rule with its 15 point Kronrod extension
+	 */
+	public static GaussKronrod createG7K15() {
+		return new GaussKronrod(NODES_K15, WEIGHTS_K15, WEIGHTS_G7);
+	}
+
+	/**
+	 * @return 10 point Gauss rule with its 21 point Kronrod extension
+	 */
+	public static GaussKronrod createG10K21() {
+		return new GaussKronrod(NODES_K21, WEIGHTS_K21, WEIGHTS_G10);
+	}
+
+	/**
+	 * @return amount of evaluations of each application of the rule
+	 */
+	public int points() {
+		return 2 * nodes.length - 1;
+	}
+
+	/**
+	 * Integrates f in [a, b] until the estimated error is under max(absoluteTolerance, relativeTolerance * |integral|)
+	 * or the next split would exceed the evaluations budget.
+	 * @param f Function
+	 * @param a starpoint
+	 * @param b endpoint
+	 * @param absoluteTolerance tolerated absolute error
+	 * @param relativeTolerance tolerated error relative to the integral
+	 * @param maxEvaluations max amount of evaluations of f, at least {@link #points()}
+	 * @return the estimate, its error and the evaluations
+	 */
+	public IntegrationResult integrate(OneVariableFunction f, double a, double b, double absoluteTolerance,
+			double relativeTolerance, long maxEvaluations) {
+		if (maxEvaluations < points()) {
+			throw new IllegalArgumentException("maxEvaluations: " + maxEvaluations + " < " + points());
+		}
+		final double[] buffer = new double[points()];
+		final PriorityQueue<Interval> heap = new PriorityQueue<Interval>(64, LARGEST_ERROR);
+		Interval whole = rule(f, a, b, buffer);
+		heap.add(whole);
+		long evaluations = points();
+		double value = whole.value;
+		double error = whole.error;
+		boolean converged = false;
+		while (true) {
+			if (error <= Math.max(absoluteTolerance, relativeTolerance * Math.abs(value))) {
+				converged = true;
+				break;
+			}
+			if (evaluations + 2 * points() > maxEvaluations) {
+				break;
+			}
+			Interval worst = heap.peek();
+			double middle = worst.a + (worst.b - worst.a) / 2;
+			if (middle == worst.a || middle == worst.b) {
+				break; // the interval can not be split any more
+			}
+			heap.poll();
+			Interval left = rule(f, worst.a, middle, buffer);
+			Interval right = rule(f, middle, worst.b, buffer);
+			evaluations += 2 * points();
+			heap.add(left);
+			heap.add(right);
+			value += left.value + right.value - worst.value;
+			error += left.error + right.error - worst.error;
+		}
+		// add again to avoid the rounding of the running sums
+		value = 0;
+		error = 0;
+		for (Interval interval : heap) {
+			value += interval.value;
+			error += interval.error;
+		}
+		return new IntegrationResult(value, error, evaluations, converged);
+	}
+
+	/**
+	 * Integrates f in the rectangle [ax, bx] x [ay, by] until the estimated error is under
+	 * max(absoluteTolerance, relativeTolerance * |integral|) or the next split would exceed the evaluations
+	 * budget. Each rectangle uses the product of the Kronrod rule with itself, {@link #points()}^2 evaluations
+	 * made in a single bulk call. The products of the Gauss and the Kronrod rules estimate the error in each
+	 * direction, and the rectangle with the largest error is halved in the direction with the largest one, or in
+	 * the other one when it is too narrow to be halved.
+	 * @param f Function
+	 * @param ax x starpoint
+	 * @param bx x endpoint
+	 * @param ay y starpoint
+	 * @param by y endpoint
+	 * @param absoluteTolerance tolerated absolute error
+	 * @param relativeTolerance tolerated error relative to the integral
+	 * @param maxEvaluations max amount of evaluations of f, at least {@link #points()}^2
+	 * @return the estimate, its error and the evaluations
+	 */
+	public IntegrationResult integrate(TwoVariableFunction f, double ax, double bx, double ay, double by,
+			double absoluteTolerance, double relativeTolerance, long maxEvaluations) {
+		final int points = points() * points();
+		if (maxEvaluations < points) {
+			throw new IllegalArgumentException("maxEvaluations: " + maxEvaluations + " < " + points);
+		}
+		final double[] xs = new double[points];
+		final double[] ys = new double[points];
+		final PriorityQueue<Rectangle> heap = new PriorityQueue<Rectangle>(64, LARGEST_RECTANGLE_ERROR);
+		Rectangle whole = rule(f, ax, bx, ay, by, xs, ys);
+		heap.add(whole);
+		long evaluations = points;
+		double value = whole.value;
+		double error = whole.error();
+		boolean converged = false;
+		while (true) {
+			if (error <= Math.max(absoluteTolerance, relativeTolerance * Math.abs(value))) {
+				converged = true;
+				break;
+			}
+			if (evaluations + 2 * points > maxEvaluations) {
+				break;
+			}
+			Rectangle worst = heap.peek();
+			double middleX = worst.ax + (worst.bx - worst.ax) / 2;
+			double middleY = worst.ay + (worst.by - worst.ay) / 2;
+			boolean splitX = middleX != worst.ax && middleX != worst.bx;
+			boolean splitY = middleY != worst.ay && middleY != worst.by;
+			if (!splitX && !splitY) {
+				break; // the rectangle can not be split any more
+			}
+			Rectangle first;
+			Rectangle second;
+			// the direction with the largest error, or the other one if it can not be halved
+			if (splitX && (worst.errorX >= worst.errorY || !splitY)) {
+				first = rule(f, worst.ax, middleX, worst.ay, worst.by, xs, ys);
+				second = rule(f, middleX, worst.bx, worst.ay, worst.by, xs, ys);
+			} else {
+				first = rule(f, worst.ax, worst.bx, worst.ay, middleY, xs, ys);
+				second = rule(f, worst.ax, worst.bx, middleY, worst.by, xs, ys);
+			}
+			heap.poll();
+			evaluations += 2 * points;
+			heap.add(first);
+			heap.add(second);
+			value += first.value + second.value - worst.value;
+			error += first.error() + second.error() - worst.error();
+		}
+		// add again to avoid the rounding of the running sums
+		value = 0;
+		error = 0;
+		for (Rectangle rectangle : heap) {
+			value += rectangle.value;
+			error += rectangle.error();
+		}
+		return new IntegrationResult(value, error, evaluations, converged);
+	}
+
+	/**
+	 * Applies the product rule in [ax, bx] x [ay, by]
+	 */
+	private Rectangle rule(TwoVariableFunction f, double ax, double bx, double ay, double by, double[] xs, double[] ys) {
+		final int p = abscissas.length;
+		final double centerX = (ax + bx) / 2;
+		final double halfX = (bx - ax) / 2;
+		final double centerY = (ay + by) / 2;
+		final double halfY = (by - ay) / 2;
+		for (int i = 0; i < p; i++) {
+			double x = centerX + halfX * abscissas[i];
+			for (int j = 0; j < p; j++) {
+				xs[i * p + j] = x;
+				ys[i * p + j] = centerY + halfY * abscissas[j];
+			}
+		}
+		TwoVariableFunctions.eval(f, xs, ys, xs, 0, p * p);
+
+		double kronrod = 0;
+		double gaussX = 0; // Gauss in x, Kronrod in y
+		double gaussY = 0; // Kronrod in x, Gauss in y
+		double absolute = 0;
+		for (int i = 0; i < p; i++) {
+			double kronrodRow = 0;
+			double gaussRow = 0;
+			double absoluteRow = 0;
+			for (int j = 0; j < p; j++) {
+				double value = xs[i * p + j];
+				kronrodRow += fullKronrodWeights[j] * value;
+				gaussRow += fullGaussWeights[j] * value;
+				absoluteRow += fullKronrodWeights[j] * Math.abs(value);
+			}
+			kronrod += fullKronrodWeights[i] * kronrodRow;
+			gaussX += fullGaussWeights[i] * kronrodRow;
+			gaussY += fullKronrodWeights[i] * gaussRow;
+			absolute += fullKronrodWeights[i] * absoluteRow;
+		}
+		final double area = halfX * halfY;
+		double errorX = Math.abs((kronrod - gaussX) * area);
+		double errorY = Math.abs((kronrod - gaussY) * area);
+		absolute *= Math.abs(area);
+		if (absolute > UNDERFLOW / (50 * EPSILON)) {
+			// the rounding of the sums, split between both directions
+			double rounding = 25 * EPSILON * absolute;
+			errorX = Math.max(rounding, errorX);
+			errorY = Math.max(rounding, errorY);
+		}
+		return new Rectangle(ax, bx, ay, by, kronrod * area, errorX, errorY);
+	}
+
+	/**
+	 * Applies the rule in [a, b]
+	 */
+	private Interval rule(OneVariableFunction f, double a, double b, double[] buffer) {
+		final int m = nodes.length - 1;
+		final double center = (a + b) / 2;
+		final double halfLength = (b - a) / 2;
+		for (int i = 0; i < m; i++) {
+			double dx = halfLength * nodes[i];
+			buffer[2 * i] = center - dx;
+			buffer[2 * i + 1] = center + dx;
+		}
+		buffer[2 * m] = center;
+		OneVariableFunctions.eval(f, buffer, buffer, 0, 2 * m + 1);
+
+		final double fc = buffer[2 * m];
+		double kronrod = kronrodWeights[m] * fc;
+		double gauss = gaussWeights[m] * fc;
+		double absolute = Math.abs(kronrod);
+		for (int i = 0; i < m; i++) {
+			double sum = buffer[2 * i] + buffer[2 * i + 1];
+			kronrod += kronrodWeights[i] * sum;
+			gauss += gaussWeights[i] * sum;
+			absolute += kronrodWeights[i] * (Math.abs(buffer[2 * i]) + Math.abs(buffer[2 * i + 1]));
+		}
+		// mean deviation of f from its mean, to scale the error
+		final double mean = kronrod / 2;
+		double deviation = kronrodWeights[m] * Math.abs(fc - mean);
+		for (int i = 0; i < m; i++) {
+			deviation += kronrodWeights[i] * (Math.abs(buffer[2 * i] - mean) + Math.abs(buffer[2 * i + 1] - mean));
+		}
+		final double length = Math.abs(halfLength);
+		double error = Math.abs((kronrod - gauss) * halfLength);
+		deviation *= length;
+		absolute *= length;
+		if (deviation != 0 && error != 0) {
+			error = deviation * Math.min(1, Math.pow(200 * error / deviation, 1.5));
+		}
+		if (absolute > UNDERFLOW / (50 * EPSILON)) {
+			error = Math.max(50 * EPSILON * absolute, error);
+		}
+		return new Interval(a, b, kronrod * halfLength, error);
+	}
+
+	/**
+	 * A subinterval with the result of the rule in it
+	 */
+	private static final class Interval {
+
+		final double a;
+		final double b;
+		final double value;
+		final double error;
+
+		Interval(double a, double b, double value, double error) {
+			this.a = a;
+			this.b = b;
+			this.value = value;
+			this.error = error;
+		}
+	}
+
+	/**
+	 * A rectangle with the result of the product rule in it, and its error in each direction
+	 */
+	private static final class Rectangle {
+
+		final double ax;
+		final double bx;
+		final double ay;
+		final double by;
+		final double value;
+		final double errorX;
+		final double errorY;
+
+		Rectangle(double ax, double bx, double ay, double by, double value, double errorX, double errorY) {
+			this.ax = ax;
+			this.bx = bx;
+			this.ay = ay;
+			this.by = by;
+			this.value = value;
+			this.errorX = errorX;
+			this.errorY = errorY;
+		}
+
+		double error() {
+			return errorX + errorY;
+		}
+	}
+
+	private static final Comparator<Rectangle> LARGEST_RECTANGLE_ERROR = new Comparator<Rectangle>() {
+		public int compare(Rectangle r1, Rectangle r2) {
+			return Double.compare(r2.error(), r1.error());
+		}
+	};
+
+	private static final Comparator<Interval> LARGEST_ERROR = new Comparator<Interval>() {
+		public int compare(Interval i1, Interval i2) {
+			return Double.compare(i2.error, i1.error);
+		}
+	};
+
+	private static final double[] NODES_K15 = { 0.991455371120812639206854697526329,
+			0.949107912342758524526189684047851, 0.864864423359769072789712788640926,
+			0.741531185599394439863864773280788, 0.586087235467691130294144845693013,
+			0.405845151377397166906606412076961, 0.207784955007898467600689403773245, 0 };
+
+	private static final double[] WEIGHTS_K15 = { 0.022935322010529224963732008058970,
+			0.063092092629978553290700663189204, 0.104790010322250183839876322541518,
+			0.140653259715525918745189590510238, 0.169004726639267902826583426598550,
+			0.190350578064785409913256402421014, 0.204432940075298892414161999234649,
+			0.209482141084727828012999174891714 };
+
+	private static final double[] WEIGHTS_G7 = { 0, 0.129484966168869693270611432679082,
+			0, 0.279705391489276667901467771423780, 0, 0.381830050505118944950369775488975,
+			0, 0.417959183673469387755102040816327 };
+
+	private static final double[] NODES_K21 = { 0.995657163025808080735527280689003,
+			0.973906528517171720077964012084452, 0.930157491355708226001207180059508,
+			0.865063366688984510732096688423493, 0.780817726586416897063717578345042,
+			0.679409568299024406234327365114874, 0.562757134668604683339000099272694,
+			0.433395394129247190799265943165784, 0.294392862701460198131126603103866,
+			0.148874338981631210884826001129720, 0 };
+
+	private static final double[] WEIGHTS_K21 = { 0.011694638867371874278064396062192,
+			0.032558162307964727478818972459390, 0.054755896574351996031381300244580,
+			0.075039674810919952767043140916190, 0.093125454583697605535065465083366,
+			0.109387158802297641899210590325805, 0.123491976262065851077208814334840,
+			0.134709217311473325928054001771707, 0.142775938577060080797094273138717,
+			0.147739104901338491374841515972068, 0.149445554002916905664936468389821 };
+
+	private static final double[] WEIGHTS_G10 = { 0, 0.066671344308688137593568809893332,
+			0, 0.149451349150580593145776339657697, 0, 0.219086362515982043995534934228163,
+			0, 0.269266719309996355091226921569469, 0, 0.295524224714752870173892994651338, 0 };
+}
@@ -0,0 +1,53 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+/**
+ * Result of an integration that controls its own error: the estimate of the integral, the estimate
+ * of its absolute error and the evaluations of the integrand that were needed.
+ */
+public final class IntegrationResult {
+
+	private final double value;
+	private final double error;
+	private final long evaluations;
+	private final boolean converged;
+
+	IntegrationResult(double value, double error, long evaluations, boolean converged) {
+		this.value = value;
+		this.error = error;
+		this.evaluations = evaluations;
+		this.converged = converged;
+	}
+
+	/**
+	 * @return the estimate of the integral
+	 */
+	public double value() {
+		return value;
+	}
+
+	/**
+	 * @return the estimate of the absolute error of {@link #value()}
+	 */
+	public double error() {
+		return error;
+	}
+
+	/**
+	 * @return evaluations of the integrand
+	 */
+	public long evaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return true if the requested tolerance was met, false if the integration stopped at its limit
+	 */
+	public boolean isConverged() {
+		return converged;
+	}
+
+	@Override
+	public String toString() {
+		return value + " +- " + error + " (" + evaluations + " evaluations" + (converged ? ")" : ", not converged)");
+	}
+}
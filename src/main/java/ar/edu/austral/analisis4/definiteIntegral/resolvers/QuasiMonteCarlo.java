@@ -0,0 +1,235 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+import ar.edu.austral.analisis4.functions.TwoVariableFunctions;
+
+/**
+ * <p>Quasi-Monte Carlo integration of functions of two variables over a rectangle, with randomly shifted
+ * Fibonacci lattices. With n = F(k) points, the point i of the lattice is (i / n, i F(k-1) / n) modulo 1;
+ * these points fill the square much more evenly than random points, and the error decreases almost as 1 / n
+ * instead of 1 / sqrt(n).</p>
+ *
+ * <p>The lattice is moved by 16 random shifts modulo 1 (Cranley-Patterson rotation) and each copy gives an
+ * independent, unbiased estimate. Their mean is the result and their standard error is the error estimate.
+ * The shifted points are folded with the tent transform t -> 1 - |2t - 1|, which keeps the estimates
+ * unbiased and makes them converge faster when the integrand is not periodic. The shifts come from a fixed
+ * seed, so the result is always the same.</p>
+ *
+ * <p>While the error estimate is over the tolerance the lattice grows about 2.6 times, up to the budget of
+ * evaluations.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * IntegrationResult result = QuasiMonteCarlo.integrate(f, 0, 1, 0, 1, 1e-6, 10000000);
+ * <pre>
+ */
+public class QuasiMonteCarlo {
+
+	/** Amount of random shifts of the lattice */
+	private static final int SHIFTS = 16;
+
+	/** Seed of the shifts */
+	private static final long SEED = 20061955L;
+
+	/** Index of the Fibonacci number of points of the first lattice, F(14) = 377 */
+	private static final int FIRST_LATTICE = 14;
+
+	/** Points evaluated in a single bulk call, and added together */
+	private static final int BLOCK = 1024;
+
+	/** Blocks of points evaluated by a single task of the parallel integration */
+	private static final int BLOCKS_PER_TASK = 4;
+
+	/**
+	 * Integrates f in the rectangle [ax, bx] x [ay, by] until the error estimate is under the tolerance or the
+	 * next lattice would exceed the evaluations budget.
+	 * @param f Function
+	 * @param ax x starpoint
+	 * @param bx x endpoint
+	 * @param ay y starpoint
+	 * @param by y endpoint
+	 * @param tolerance tolerated absolute error
+	 * @param maxEvaluations max amount of evaluations of f, at least 16 * 377
+	 * @return the estimate, the standard error of the shifted estimates and the evaluations
+	 */
+	public static IntegrationResult integrate(TwoVariableFunction f, double ax, double bx, double ay, double by,
+			double tolerance, long maxEvaluations) {
+		return integrate(f, ax, bx, ay, by, tolerance, maxEvaluations, null);
+	}
+
+	/**
+	 * Integrates f in the rectangle [ax, bx] x [ay, by], evaluating the points in parallel. The points of each
+	 * shift are split in blocks of 1024 that are evaluated and added by the threads of the pool; the sums of
+	 * the blocks are then added in order, so the result is the same whatever the amount of threads. f must be
+	 * safe to call from several threads.
+	 * @param f Function
+	 * @param ax x starpoint
+	 * @param bx x endpoint
+	 * @param ay y starpoint
+	 * @param by y endpoint
+	 * @param tolerance tolerated absolute error
+	 * @param maxEvaluations max amount of evaluations of f, at least 16 * 377
+	 * @param pool pool that evaluates the points, or null to evaluate them in the calling thread
+	 * @return the estimate, the standard error of the shifted estimates and the evaluations
+	 */
+	public static IntegrationResult integrate(TwoVariableFunction f, double ax, double bx, double ay, double by,
+			double tolerance, long maxEvaluations, ForkJoinPool pool) {
+		long previous = fibonacci(FIRST_LATTICE - 1);
+		long n = fibonacci(FIRST_LATTICE);
+		if (maxEvaluations < SHIFTS * n) {
+			throw new IllegalArgumentException("maxEvaluations: " + maxEvaluations + " < " + SHIFTS * n);
+		}
+		final double[] shifts = new double[2 * SHIFTS];
+		final Random random = new Random(SEED);
+		for (int i = 0; i < shifts.length; i++) {
+			shifts[i] = random.nextDouble();
+		}
+		final double area = (bx - ax) * (by - ay);
+		final double[] estimates = new double[SHIFTS];
+		long evaluations = 0;
+		while (true) {
+			Lattice lattice = new Lattice(f, ax, bx, ay, by, n, previous, shifts);
+			int blocksPerShift = (int) ((n + BLOCK - 1) / BLOCK);
+			double[] blocks = new double[SHIFTS * blocksPerShift];
+			if (pool == null) {
+				lattice.sum(blocks, 0, blocks.length);
+			} else {
+				pool.invoke(new LatticeTask(lattice, blocks, 0, blocks.length));
+			}
+			evaluations += SHIFTS * n;
+			double mean = 0;
+			for (int s = 0; s < SHIFTS; s++) {
+				double sum = 0;
+				for (int k = 0; k < blocksPerShift; k++) {
+					sum += blocks[s * blocksPerShift + k];
+				}
+				estimates[s] = area * sum / n;
+				mean += estimates[s];
+			}
+			mean /= SHIFTS;
+			double variance = 0;
+			for (int s = 0; s < SHIFTS; s++) {
+				variance += (estimates[s] - mean) * (estimates[s] - mean);
+			}
+			double error = Math.sqrt(variance / (SHIFTS * (SHIFTS - 1)));
+			if (error <= tolerance) {
+				return new IntegrationResult(mean, error, evaluations, true);
+			}
+			// two Fibonacci numbers ahead
+			long next = n + previous;
+			previous = next;
+			n = next + n;
+			if (n > Integer.MAX_VALUE || evaluations + SHIFTS * n > maxEvaluations) {
+				return new IntegrationResult(mean, error, evaluations, false);
+			}
+		}
+	}
+
+	private static long fibonacci(int k) {
+		long previous = 0;
+		long current = 1;
+		for (int i = 1; i < k; i++) {
+			long next = previous + current;
+			previous = current;
+			current = next;
+		}
+		return current;
+	}
+
+	/**
+	 * The points of a lattice of n points with generator g, under every shift
+	 */
+	private static final class Lattice {
+
+		private final TwoVariableFunction f;
+		private final double ax;
+		private final double bx;
+		private final double ay;
+		private final double by;
+		private final long n;
+		private final long g;
+		private final double[] shifts;
+		private final int blocksPerShift;
+
+		Lattice(TwoVariableFunction f, double ax, double bx, double ay, double by, long n, long g, double[] shifts) {
+			this.f = f;
+			this.ax = ax;
+			this.bx = bx;
+			this.ay = ay;
+			this.by = by;
+			this.n = n;
+			this.g = g;
+			this.shifts = shifts;
+			this.blocksPerShift = (int) ((n + BLOCK - 1) / BLOCK);
+		}
+
+		/**
+		 * Evaluates and adds the blocks [from, to), storing the sum of each block. Block k holds the points
+		 * of the shift k / blocksPerShift.
+		 */
+		void sum(double[] blocks, int from, int to) {
+			final double[] xs = new double[BLOCK];
+			final double[] ys = new double[BLOCK];
+			for (int k = from; k < to; k++) {
+				int shift = k / blocksPerShift;
+				double ux = shifts[2 * shift];
+				double uy = shifts[2 * shift + 1];
+				long start = (long) (k % blocksPerShift) * BLOCK;
+				int len = (int) Math.min(BLOCK, n - start);
+				for (int i = 0; i < len; i++) {
+					long index = start + i;
+					xs[i] = ax + (bx - ax) * tent((double) index / n + ux);
+					ys[i] = ay + (by - ay) * tent((double) (index * g % n) / n + uy);
+				}
+				TwoVariableFunctions.eval(f, xs, ys, xs, 0, len);
+				double block = 0;
+				for (int i = 0; i < len; i++) {
+					block += xs[i];
+				}
+				blocks[k] = block;
+			}
+		}
+
+		/**
+		 * Takes t modulo 1 and folds it with the tent transform
+		 */
+		private static double tent(double t) {
+			t -= Math.floor(t);
+			return 1 - Math.abs(2 * t - 1);
+		}
+	}
+
+	/**
+	 * Evaluates and adds the blocks [from, to) of a lattice
+	 */
+	private static final class LatticeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Lattice lattice;
+		private final double[] blocks;
+		private final int from;
+		private final int to;
+
+		LatticeTask(Lattice lattice, double[] blocks, int from, int to) {
+			this.lattice = lattice;
+			this.blocks = blocks;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > BLOCKS_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new LatticeTask(lattice, blocks, from, middle), new LatticeTask(lattice, blocks, middle, to));
+				return;
+			}
+			lattice.sum(blocks, from, to);
+		}
+	}
+}
@@ -1,6 +1,14 @@
 package ar.edu.austral.analisis4.definiteIntegral.resolvers;
 
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
 
 /**
  * <p>In numerical analysis, Romberg's method (Romberg 1955) is used to estimate the definite integral </p>
@@ -14,7 +22,7 @@ public class Romberg {
 
 	 /**
      * tabulates the function.
-     * Evaluates the function in a close interval [a,b]
+     * Evaluates the function in a close interval [a,b], in a single bulk call.
      * @param f funcion
      * @param a starpoint
      * @param b endpoint
@@ -25,8 +33,9 @@ public class Romberg {
         double[] t = new double[n+1];
         double h = (b-a)/n;
         for (int i = 0; i < n+1; i++) {
-            t[i] = f.eval(a+(i*h));
+            t[i] = a+(i*h);
         }
+        OneVariableFunctions.eval(f, t, t, 0, n+1);
         return t;
     }
 
@@ -40,7 +49,7 @@ public class Romberg {
      * @return evaluated value with trapezoid
      */
     public static double trapezoid(double[] t, double a, double b, int k) {
-        int n = (int) Math.pow(2,k);
+        int n = 1 << k;
         double h = (b-a)/n;        
         int increment = t.length/n;
         double accum = 0;
@@ -96,4 +105,220 @@ public class Romberg {
         return romberg(t,a, b);
     }
 
+    /** Points evaluated in a single bulk call, and added together, when a level is refined */
+    static final int BLOCK = 1024;
+
+    /** Blocks of points evaluated by a single task of the parallel integration */
+    private static final int BLOCKS_PER_TASK = 4;
+
+    /** Levels refined before the tolerance is checked, so a few samples that happen to agree do not stop the integration */
+    static final int MIN_LEVELS = 4;
+
+    /**
+     * Romberg Integration with error control. The trapezoid is refined one level at a time, evaluating only
+     * the new midpoints, and the integration stops as soon as two successive diagonal entries of the Romberg
+     * table differ less than the tolerance. Only the last row of the table is kept, so memory does not grow
+     * with the amount of points.
+     * @param f Function
+     * @param a starpoint
+     * @param b endpoint
+     * @param tolerance tolerated absolute error
+     * @param maxLevels max amount of levels, at most 2^maxLevels intervals are used
+     * @return the estimate, the difference between the last two diagonal entries as error, and the evaluations
+     */
+    public static IntegrationResult integrate(OneVariableFunction f, double a, double b, double tolerance, int maxLevels) {
+        return integrate(f, a, b, tolerance, maxLevels, null);
+    }
+
+    /**
+     * Romberg Integration with error control, evaluating the new points of each level in parallel. The points
+     * are split in blocks of 1024 that are evaluated and added by the threads of the pool; the sums of the blocks
+     * are then added in order, exactly as {@link #integrate(OneVariableFunction, double, double, double, int)}
+     * does, so the result is the same whatever the amount of threads. f must be safe to call from several threads.
+     * @param f Function
+     * @param a starpoint
+     * @param b endpoint
+     * @param tolerance tolerated absolute error
+     * @param maxLevels max amount of levels, at most 2^maxLevels intervals are used
+     * @param pool pool that evaluates the points, or null to evaluate them in the calling thread
+     * @return the estimate, the difference between the last two diagonal entries as error, and the evaluations
+     */
+    public static IntegrationResult integrate(OneVariableFunction f, double a, double b, double tolerance, int maxLevels,
+            ForkJoinPool pool) {
+        if (maxLevels < 0 || maxLevels > 62) {
+            throw new IllegalArgumentException("" + maxLevels);
+        }
+        double[] row = new double[maxLevels + 1];
+        double[] buffer = new double[(int) Math.min(BLOCK, 1L << Math.max(maxLevels - 1, 0))];
+        double h = b - a;
+        row[0] = (f.eval(a) + f.eval(b)) * h / 2;
+        long evaluations = 2;
+        double error = Double.POSITIVE_INFINITY;
+        for (int level = 1; level <= maxLevels; level++) {
+            long n = 1L << (level - 1); // new midpoints
+            h /= 2;
+            double diagonal = row[level - 1];
+            double sum = pool == null || n <= BLOCK ? midpoints(f, a, h, n, buffer) : midpoints(f, a, h, n, pool);
+            extrapolate(row, level, row[0] / 2 + h * sum);
+            evaluations += n;
+            error = Math.abs(row[level] - diagonal);
+            if (level >= MIN_LEVELS && error <= tolerance) {
+                return new IntegrationResult(row[level], error, evaluations, true);
+            }
+        }
+        return new IntegrationResult(row[maxLevels], error, evaluations, false);
+    }
+
+    /**
+     * Romberg Correction: replaces the last row of the Romberg table, row[0..level-1], with the next one,
+     * row[0..level], given the trapezoid of the new level.
+     */
+    static void extrapolate(double[] row, int level, double trapezoid) {
+        double previous = row[0];
+        row[0] = trapezoid;
+        double c = 1;
+        for (int j = 1; j <= level; j++) {
+            c *= 4;
+            double next = row[j];
+            row[j] = ((c * row[j - 1]) - previous) / (c - 1);
+            previous = next;
+        }
+    }
+
+    /**
+     * Romberg Integration of the samples between the position and the limit of a buffer, for example a
+     * buffer mapped from a file. The samples are read in a single pass and are not copied.
+     * @param samples 2^k + 1 values of a function in equally spaced points of [a, b]
+     * @param a starpoint
+     * @param b endpoint
+     * @return the estimate, its error and the amount of samples
+     * @see RombergAccumulator
+     */
+    public static IntegrationResult romberg(DoubleBuffer samples, double a, double b) {
+        RombergAccumulator accumulator = new RombergAccumulator();
+        accumulator.add(samples);
+        return accumulator.result(a, b);
+    }
+
+    /** Bytes of a file mapped at once, a multiple of 8 */
+    private static final int MAPPED_BYTES = 1 << 27;
+
+    /**
+     * Romberg Integration of a file of doubles, from the current position of the channel to its end. The
+     * file is mapped in chunks of 128MB, one at a time, so memory does not grow with the size of the file.
+     * @param channel channel of the file, 2^k + 1 values of a function in equally spaced points of [a, b]
+     * @param order byte order of the doubles in the file, {@link ByteOrder#BIG_ENDIAN} if they were written
+     * by a DataOutputStream
+     * @param a starpoint
+     * @param b endpoint
+     * @return the estimate, its error and the amount of samples
+     * @throws IOException if the file can not be mapped
+     * @throws IllegalArgumentException if the bytes from the position to the end are not a whole amount of doubles
+     */
+    public static IntegrationResult romberg(FileChannel channel, ByteOrder order, double a, double b)
+            throws IOException {
+        return romberg(channel, order, a, b, MAPPED_BYTES);
+    }
+
+    static IntegrationResult romberg(FileChannel channel, ByteOrder order, double a, double b, int mappedBytes)
+            throws IOException {
+        RombergAccumulator accumulator = new RombergAccumulator();
+        long position = channel.position();
+        long end = channel.size();
+        if ((end - position) % 8 != 0) {
+            throw new IllegalArgumentException("bytes: " + (end - position) + " is not a multiple of 8");
+        }
+        while (position < end) {
+            long length = Math.min(mappedBytes, end - position);
+            accumulator.add(channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(order).asDoubleBuffer());
+            position += length;
+        }
+        return accumulator.result(a, b);
+    }
+
+    /**
+     * Sum of f in the n midpoints a + h, a + 3h, ..., a + (2n - 1)h. The points are evaluated and added
+     * in blocks of 1024, and the sums of the blocks are added in order.
+     */
+    private static double midpoints(OneVariableFunction f, double a, double h, long n, double[] buffer) {
+        double sum = 0;
+        for (long start = 0; start < n; start += BLOCK) {
+            int len = (int) Math.min(BLOCK, n - start);
+            for (int i = 0; i < len; i++) {
+                buffer[i] = a + (2 * (start + i) + 1) * h;
+            }
+            OneVariableFunctions.eval(f, buffer, buffer, 0, len);
+            double block = 0;
+            for (int i = 0; i < len; i++) {
+                block += buffer[i];
+            }
+            sum += block;
+        }
+        return sum;
+    }
+
+    /**
+     * Same sum as {@link #midpoints(OneVariableFunction, double, double, long, double[])}, with the blocks
+     * evaluated and added in parallel
+     */
+    private static double midpoints(OneVariableFunction f, double a, double h, long n, ForkJoinPool pool) {
+        double[] blocks = new double[(int) ((n + BLOCK - 1) / BLOCK)];
+        pool.invoke(new MidpointsTask(f, a, h, n, blocks, 0, blocks.length));
+        double sum = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            sum += blocks[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Evaluates and adds the blocks [from, to) of midpoints, storing the sum of each block
+     */
+    private static final class MidpointsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final OneVariableFunction f;
+        private final double a;
+        private final double h;
+        private final long n;
+        private final double[] blocks;
+        private final int from;
+        private final int to;
+
+        MidpointsTask(OneVariableFunction f, double a, double h, long n, double[] blocks, int from, int to) {
+            this.f = f;
+            this.a = a;
+            this.h = h;
+            this.n = n;
+            this.blocks = blocks;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BLOCKS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new MidpointsTask(f, a, h, n, blocks, from, middle),
+                        new MidpointsTask(f, a, h, n, blocks, middle, to));
+                return;
+            }
+            double[] buffer = new double[BLOCK];
+            for (int k = from; k < to; k++) {
+                long start = (long) k * BLOCK;
+                int len = (int) Math.min(BLOCK, n - start);
+                for (int i = 0; i < len; i++) {
+                    buffer[i] = a + (2 * (start + i) + 1) * h;
+                }
+                OneVariableFunctions.eval(f, buffer, buffer, 0, len);
+                double block = 0;
+                for (int i = 0; i < len; i++) {
+                    block += buffer[i];
+                }
+                blocks[k] = block;
+            }
+        }
+    }
+
 }
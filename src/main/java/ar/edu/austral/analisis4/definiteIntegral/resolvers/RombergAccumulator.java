@@ -0,0 +1,117 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * <p>Romberg integration of equally spaced samples that arrive as a stream, in a single pass and with
+ * constant memory: the samples are never stored.</p>
+ *
+ * <p>With 2^k + 1 samples, the sample j belongs to the trapezoid of the level i when j is a multiple of
+ * 2^(k - i). So each sample is added to a bin given by the trailing zeros of its index, and the sum of every
+ * trapezoid level is a sum of bins. Once all the samples were added the k + 1 trapezoids are built from the
+ * bins and corrected with Richardson extrapolation, as {@link Romberg#integrate(ar.edu.austral.analisis4.functions.OneVariableFunction, double, double, double, int)}
+ * does.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * RombergAccumulator accumulator = new RombergAccumulator();
+ * while (...) {
+ *     accumulator.add(chunk, 0, read);
+ * }
+ * IntegrationResult result = accumulator.result(a, b);
+ * <pre>
+ */
+public class RombergAccumulator {
+
+	private long count;
+	private double first;
+	private double last;
+	/** bins[t] is the sum of the samples whose index has t trailing zeros */
+	private final double[] bins = new double[Long.SIZE];
+
+	/**
+	 * @return amount of samples added
+	 */
+	public long count() {
+		return count;
+	}
+
+	/**
+	 * Adds the next sample
+	 * @param sample value of the function in the next point
+	 */
+	public void add(double sample) {
+		if (count == 0) {
+			first = sample;
+		} else {
+			bins[Long.numberOfTrailingZeros(count)] += sample;
+		}
+		last = sample;
+		count++;
+	}
+
+	/**
+	 * Adds the next samples
+	 * @param samples values of the function in the next points
+	 * @param off position of the first sample
+	 * @param len amount of samples
+	 */
+	public void add(double[] samples, int off, int len) {
+		for (int i = off, end = off + len; i < end; i++) {
+			add(samples[i]);
+		}
+	}
+
+	/**
+	 * Adds the samples between the position and the limit of the buffer. The position of the buffer is not
+	 * changed.
+	 * @param samples values of the function in the next points
+	 */
+	public void add(DoubleBuffer samples) {
+		for (int i = samples.position(), end = samples.limit(); i < end; i++) {
+			add(samples.get(i));
+		}
+	}
+
+	/**
+	 * Romberg Integration of the samples added so far, which must be 2^k + 1 for some k.
+	 * isConverged() is always true, as every sample is used.
+	 * @param a point of the first sample
+	 * @param b point of the last sample
+	 * @return the estimate, the difference between the last two diagonal entries of the Romberg table
+	 * as error (infinite with two samples), and the amount of samples as evaluations
+	 */
+	public IntegrationResult result(double a, double b) {
+		final long n = count - 1;
+		if (n < 1 || (n & (n - 1)) != 0) {
+			throw new IllegalArgumentException("samples: " + count + " != 2^k + 1");
+		}
+		final int k = Long.numberOfTrailingZeros(n);
+		final double[] row = new double[k + 1];
+		final double ends = (first + last) / 2;
+		double h = b - a;
+		double interior = 0;
+		row[0] = ends * h;
+		double error = Double.POSITIVE_INFINITY;
+		for (int level = 1; level <= k; level++) {
+			h /= 2;
+			interior += bins[k - level];
+			double diagonal = row[level - 1];
+			Romberg.extrapolate(row, level, (ends + interior) * h);
+			error = Math.abs(row[level] - diagonal);
+		}
+		return new IntegrationResult(row[k], error, count, true);
+	}
+
+	/**
+	 * Removes every sample
+	 */
+	public void reset() {
+		count = 0;
+		first = 0;
+		last = 0;
+		for (int i = 0; i < bins.length; i++) {
+			bins[i] = 0;
+		}
+	}
+}
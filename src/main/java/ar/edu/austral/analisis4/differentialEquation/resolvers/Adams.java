@@ -1,5 +1,8 @@
 package ar.edu.austral.analisis4.differentialEquation.resolvers;
 
+import ar.edu.austral.analisis4.functions.Dual;
+import ar.edu.austral.analisis4.functions.DualFunctions;
+import ar.edu.austral.analisis4.functions.DualTwoVariableFunction;
 import ar.edu.austral.analisis4.functions.TwoVariableFunction;
 
 public class Adams {
@@ -116,16 +119,77 @@ public class Adams {
 		return yn1;
 	}
 
+	/**
+	 * The method resolves a differential equation using Adams-Moulton, solving the implicit
+	 * corrector with Newton's method instead of successive substitutions. The partial derivative
+	 * of f with respect to y is exact, so stiff equations that make the substitutions diverge
+	 * still converge.
+	 * Initial Value: y' = f(x,y) y(x0)=y0
+	 * y(xn) = ?
+	 * 
+	 * @param f function y' = f(x,y)
+	 * @param x0 initial value of x
+	 * @param y0 initial value of y, in x0
+	 * @param maxIter max number of interation for correction
+	 * @param tolerance
+	 * @return yn
+	 */
+	public double adamsMoulton(DualTwoVariableFunction f, double x0, double y0, double xn,
+			int maxIter, double tolerance) {
+		TwoVariableFunction value = DualFunctions.value(f);
+		int order = bashforthCoefficients.length;
+		double h = (xn - x0) / order;
+
+		// Calculo los valores iniciales usando RungeKutta
+		double[] y = runge.tabulateOrder4(value, x0, y0, x0 + h * (order - 1),
+				order - 1);
+
+		// Construyo la historia: f(x[i], y[i])
+		double[] history = buildHistory(value, x0, h, y);
+		double yn1;
+
+		// Calculo usando el predictor de AdamsB-Bashforth
+		yn1 = computeAdamsBashforth(h, y[y.length - 1], history);
+
+		// Newton sobre g(Y) = Y - y[n] - h / divisor * (b0 * f(xn, Y) + historia)
+		double known = y[y.length - 1] + h * moultonHistory(history) / divisor;
+		double factor = h * moultonCoefficients[0] / divisor;
+		Dual x = new Dual().constant(xn);
+		Dual yk = new Dual();
+		Dual fk = new Dual();
+		double last;
+		for (int i = 0; i < maxIter; i++) {
+			last = yn1;
+			f.eval(x, yk.variable(yn1), fk);
+			double g = yn1 - known - factor * fk.value();
+			double dg = 1 - factor * fk.derivative();
+			yn1 = yn1 - g / dg;
+			if (hasConverged(last, yn1, tolerance)) {
+				break;
+			}
+		}
+
+		return yn1;
+	}
+
 	private double computeAdamsMoulton(TwoVariableFunction f, double xn,
 			double bashforth, double h, double[] y, double[] history) {
+		double delta = moultonHistory(history);
+		delta += f.eval(xn, bashforth) * moultonCoefficients[0];
+		return y[y.length - 1] + h * delta / divisor;
+	}
+
+	/**
+	 * Explicit part of the Adams-Moulton sum, the terms of the history
+	 */
+	private double moultonHistory(double[] history) {
 		double delta = 0.0;
 		int n = moultonCoefficients.length - 1;
 
 		for (int i = 1; i < moultonCoefficients.length; i++, n--) {
 			delta += moultonCoefficients[i] * history[n];
 		}
-		delta += f.eval(xn, bashforth) * moultonCoefficients[0];
-		return y[y.length - 1] + h * delta / divisor;
+		return delta;
 	}
 
 	public static final double[] COEFF_ORDER_5 = { 1901.0, -2774.0, 2616.0,
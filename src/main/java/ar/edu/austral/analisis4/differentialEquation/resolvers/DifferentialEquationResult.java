@@ -0,0 +1,73 @@
+package ar.edu.austral.analisis4.differentialEquation.resolvers;
+
+/**
+ * Result of a differential equation solved with step size control: the value of y in the last x reached,
+ * the steps that were accepted and rejected, and the evaluations of f that were needed.
+ */
+public final class DifferentialEquationResult {
+
+	private final double x;
+	private final double value;
+	private final int accepted;
+	private final int rejected;
+	private final long evaluations;
+	private final boolean converged;
+
+	DifferentialEquationResult(double x, double value, int accepted, int rejected, long evaluations, boolean converged) {
+		this.x = x;
+		this.value = value;
+		this.accepted = accepted;
+		this.rejected = rejected;
+		this.evaluations = evaluations;
+		this.converged = converged;
+	}
+
+	/**
+	 * @return the last x reached, xn when the integration converged
+	 */
+	public double x() {
+		return x;
+	}
+
+	/**
+	 * @return y in {@link #x()}
+	 */
+	public double value() {
+		return value;
+	}
+
+	/**
+	 * @return steps accepted
+	 */
+	public int accepted() {
+		return accepted;
+	}
+
+	/**
+	 * @return steps rejected because their error was over the tolerance
+	 */
+	public int rejected() {
+		return rejected;
+	}
+
+	/**
+	 * @return evaluations of f
+	 */
+	public long evaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return true if xn was reached, false if the integration stopped at its limit of steps or because the
+	 * step became too small
+	 */
+	public boolean isConverged() {
+		return converged;
+	}
+
+	@Override
+	public String toString() {
+		return "y(" + x + ") = " + value + " (" + accepted + " accepted steps, " + rejected + " rejected, "
+				+ evaluations + " evaluations" + (converged ? ")" : ", not converged)");
+	}
+}
@@ -0,0 +1,187 @@
+package ar.edu.austral.analisis4.differentialEquation.resolvers;
+
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+
+/**
+ * <p>Runge-Kutta with step size control. An embedded pair computes two solutions of different orders with
+ * the same evaluations of f, and their difference estimates the error of the step. Steps with an error over
+ * the tolerance are rejected and retried with a smaller h; after an accepted step h grows or shrinks so the
+ * next error is close to the tolerance. So the steps are small only where the solution needs them.</p>
+ *
+ * <p>Both pairs are FSAL (first same as last): the last stage is f in the new point, which is the first
+ * stage of the next step, so each accepted step costs one evaluation less than its stages. The step goes on
+ * with the higher order solution (local extrapolation).</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * DifferentialEquationResult result = EmbeddedRungeKutta.createDormandPrince().solve(f, 0, 1, 10, 1e-8, 1e-8, 100000);
+ * <pre>
+ */
+public class EmbeddedRungeKutta {
+
+	/** Safety factor of the new step size */
+	private static final double SAFETY = 0.9;
+
+	/** Bounds of the ratio between the new and the last step size */
+	private static final double MIN_FACTOR = 0.2;
+	private static final double MAX_FACTOR = 5;
+
+	/** Nodes, c[0] = 0 and c[stages - 1] = 1 */
+	private final double[] c;
+	/** Coefficients of the stages, a[i] has the i coefficients of the stage i */
+	private final double[][] a;
+	/** Differences between the weights of the higher and the lower order solution */
+	private final double[] e;
+	/** Order of the lower order solution, which sets the exponent of the step size control */
+	private final int order;
+
+	private EmbeddedRungeKutta(double[] c, double[][] a, double[] lowerWeights, int order) {
+		this.c = c;
+		this.a = a;
+		this.order = order;
+		// the last stage has the weights of the higher order solution
+		final double[] weights = a[a.length - 1];
+		this.e = new double[c.length];
+		for (int i = 0; i < c.length; i++) {
+			e[i] = (i < weights.length ? weights[i] : 0) - lowerWeights[i];
+		}
+	}
+
+	/**
+	 * @return Dormand-Prince 5(4), 7 stages and 6 evaluations per step
+	 */
+	public static EmbeddedRungeKutta createDormandPrince() {
+		return new EmbeddedRungeKutta(DP_NODES, DP_COEFFICIENTS, DP_WEIGHTS_ORDER_4, 4);
+	}
+
+	/**
+	 * @return Bogacki-Shampine 3(2), 4 stages and 3 evaluations per step, for loose tolerances
+	 */
+	public static EmbeddedRungeKutta createBogackiShampine() {
+		return new EmbeddedRungeKutta(BS_NODES, BS_COEFFICIENTS, BS_WEIGHTS_ORDER_2, 2);
+	}
+
+	/**
+	 * The method resolves a differential equation controlling the error of each step.
+	 * Initial Value: y' = f(x,y) y(x0)=y0
+	 * y(xn) = ?
+	 * 
+	 * The error of each step is kept under absoluteTolerance + relativeTolerance * |y|.
+	 * 
+	 * @param f function y' = f(x,y)
+	 * @param x0 initial value of x
+	 * @param y0 initial value of y, in x0
+	 * @param xn x value of the function in Xn, can be lower than x0
+	 * @param absoluteTolerance tolerated absolute error of each step
+	 * @param relativeTolerance tolerated error of each step relative to y
+	 * @param maxSteps max amount of steps, accepted or rejected
+	 * @return yn, with the steps and the evaluations
+	 */
+	public DifferentialEquationResult solve(TwoVariableFunction f, double x0, double y0, double xn,
+			double absoluteTolerance, double relativeTolerance, int maxSteps) {
+		if (absoluteTolerance <= 0 && relativeTolerance <= 0) {
+			throw new IllegalArgumentException("tolerance: " + absoluteTolerance + ", " + relativeTolerance);
+		}
+		final int stages = c.length;
+		final double[] k = new double[stages];
+		final double exponent = -1.0 / (order + 1);
+		double x = x0;
+		double y = y0;
+		k[0] = f.eval(x, y);
+		long evaluations = 1;
+		if (x0 == xn) {
+			return new DifferentialEquationResult(x, y, 0, 0, evaluations, true);
+		}
+		double h = initialStep(f, x0, y0, xn, k[0], absoluteTolerance, relativeTolerance);
+		evaluations++;
+		int accepted = 0;
+		int rejected = 0;
+		boolean rejectedLast = false;
+		while (accepted + rejected < maxSteps) {
+			boolean last = Math.abs(h) >= Math.abs(xn - x);
+			if (last) {
+				h = xn - x;
+			} else if (x + h == x) {
+				break; // the step can not be any smaller
+			}
+			// the argument of the last stage is the new solution
+			double next = y;
+			for (int i = 1; i < stages; i++) {
+				double sum = 0;
+				double[] ai = a[i - 1];
+				for (int j = 0; j < i; j++) {
+					sum += ai[j] * k[j];
+				}
+				next = y + h * sum;
+				k[i] = f.eval(i == stages - 1 && last ? xn : x + c[i] * h, next);
+			}
+			evaluations += stages - 1;
+			double delta = 0;
+			for (int j = 0; j < stages; j++) {
+				delta += e[j] * k[j];
+			}
+			double scale = absoluteTolerance + relativeTolerance * Math.max(Math.abs(y), Math.abs(next));
+			double error = Math.abs(h * delta) / scale;
+			if (error <= 1) {
+				x = last ? xn : x + h;
+				y = next;
+				k[0] = k[stages - 1];
+				accepted++;
+				if (last) {
+					return new DifferentialEquationResult(x, y, accepted, rejected, evaluations, true);
+				}
+				double factor = error == 0 ? MAX_FACTOR
+						: Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, SAFETY * Math.pow(error, exponent)));
+				// do not grow right after a rejection
+				h *= rejectedLast ? Math.min(1, factor) : factor;
+				rejectedLast = false;
+			} else {
+				rejected++;
+				rejectedLast = true;
+				h *= Math.max(MIN_FACTOR, SAFETY * Math.pow(error, exponent));
+			}
+		}
+		return new DifferentialEquationResult(x, y, accepted, rejected, evaluations, false);
+	}
+
+	/**
+	 * First step size, from the size of y and of its first two derivatives in x0 (Hairer, Norsett and
+	 * Wanner). Evaluates f once.
+	 */
+	private double initialStep(TwoVariableFunction f, double x0, double y0, double xn, double f0,
+			double absoluteTolerance, double relativeTolerance) {
+		final double direction = Math.signum(xn - x0);
+		final double scale = absoluteTolerance + relativeTolerance * Math.abs(y0);
+		final double d0 = Math.abs(y0) / scale;
+		final double d1 = Math.abs(f0) / scale;
+		double h0 = d0 < 1e-5 || d1 < 1e-5 ? 1e-6 : 0.01 * d0 / d1;
+		h0 = Math.min(h0, Math.abs(xn - x0));
+		final double f1 = f.eval(x0 + direction * h0, y0 + direction * h0 * f0);
+		final double d2 = Math.abs(f1 - f0) / scale / h0;
+		final double d = Math.max(d1, d2);
+		final double h1 = d <= 1e-15 ? Math.max(1e-6, h0 * 1e-3) : Math.pow(0.01 / d, 1.0 / (order + 1));
+		return direction * Math.min(100 * h0, h1);
+	}
+
+	private static final double[] DP_NODES = { 0, 1.0 / 5, 3.0 / 10, 4.0 / 5, 8.0 / 9, 1, 1 };
+
+	private static final double[][] DP_COEFFICIENTS = {
+			{ 1.0 / 5 },
+			{ 3.0 / 40, 9.0 / 40 },
+			{ 44.0 / 45, -56.0 / 15, 32.0 / 9 },
+			{ 19372.0 / 6561, -25360.0 / 2187, 64448.0 / 6561, -212.0 / 729 },
+			{ 9017.0 / 3168, -355.0 / 33, 46732.0 / 5247, 49.0 / 176, -5103.0 / 18656 },
+			{ 35.0 / 384, 0, 500.0 / 1113, 125.0 / 192, -2187.0 / 6784, 11.0 / 84 } };
+
+	private static final double[] DP_WEIGHTS_ORDER_4 = { 5179.0 / 57600, 0, 7571.0 / 16695, 393.0 / 640,
+			-92097.0 / 339200, 187.0 / 2100, 1.0 / 40 };
+
+	private static final double[] BS_NODES = { 0, 1.0 / 2, 3.0 / 4, 1 };
+
+	private static final double[][] BS_COEFFICIENTS = {
+			{ 1.0 / 2 },
+			{ 0, 3.0 / 4 },
+			{ 2.0 / 9, 1.0 / 3, 4.0 / 9 } };
+
+	private static final double[] BS_WEIGHTS_ORDER_2 = { 7.0 / 24, 1.0 / 4, 1.0 / 3, 1.0 / 8 };
+}
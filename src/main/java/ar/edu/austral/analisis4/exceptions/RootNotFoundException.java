@@ -1,10 +1,14 @@
 package ar.edu.austral.analisis4.exceptions;
 
+/**
+ * Thrown by the root finders when the root was not found. It carries no stack trace, which makes
+ * it cheap to throw; use the <code>solve</code> methods of the root finders to avoid it altogether.
+ */
 public class RootNotFoundException extends RuntimeException {
 
 	private static final long serialVersionUID = 1L;
 
 	public RootNotFoundException(String methodName) {
-        super(methodName + ": Root not found");
+        super(methodName + ": Root not found", null, false, false);
     }
 }
@@ -0,0 +1,24 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * A {@link OneVariableFunction} that can also be evaluated on a whole array of values in a single call,
+ * avoiding one interface call per point. Implementations are expected to be faster than calling
+ * {@link #eval(double)} in a loop, specially when the values are sorted.
+ * 
+ * <p>Use {@link OneVariableFunctions#eval(OneVariableFunction, double[], double[], int, int)} to evaluate
+ * any function in bulk: it delegates here when possible and loops over {@link #eval(double)} otherwise.</p>
+ */
+public interface BulkOneVariableFunction extends OneVariableFunction {
+
+	/**
+	 * Evaluates the function in xs[off], ..., xs[off + len - 1] and stores the results
+	 * in the same positions of out. xs and out can be the same array.
+	 * 
+	 * @param xs values to be eval
+	 * @param out where the function values are stored
+	 * @param off first position to be eval
+	 * @param len amount of values to be eval
+	 */
+	public void eval(double[] xs, double[] out, int off, int len);
+
+}
@@ -0,0 +1,24 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * A {@link TwoVariableFunction} that can also be evaluated on whole arrays of values in a single call,
+ * avoiding one interface call per point.
+ * 
+ * <p>Use {@link TwoVariableFunctions#eval(TwoVariableFunction, double[], double[], double[], int, int)} to evaluate
+ * any function in bulk: it delegates here when possible and loops over {@link #eval(double, double)} otherwise.</p>
+ */
+public interface BulkTwoVariableFunction extends TwoVariableFunction {
+
+	/**
+	 * Evaluates the function in (xs[off], ys[off]), ..., (xs[off + len - 1], ys[off + len - 1])
+	 * and stores the results in the same positions of out. out can be the same array as xs or ys.
+	 * 
+	 * @param xs x values to be eval
+	 * @param ys y values to be eval
+	 * @param out where the function values are stored
+	 * @param off first position to be eval
+	 * @param len amount of values to be eval
+	 */
+	public void eval(double[] xs, double[] ys, double[] out, int off, int len);
+
+}
@@ -0,0 +1,44 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * Wraps a {@link OneVariableFunction} and counts how many times it is evaluated, to compare how many
+ * evaluations different methods need for the same problem. It is not thread-safe.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * CountingFunction counting = new CountingFunction(f);
+ * Brent.findRoot(counting, 1, 2, 0.0001, 100);
+ * long evaluations = counting.getEvaluations();
+ * <pre>
+ */
+public class CountingFunction implements OneVariableFunction {
+
+	private final OneVariableFunction function;
+	private long evaluations;
+
+	/**
+	 * @param function function to be counted
+	 */
+	public CountingFunction(OneVariableFunction function) {
+		this.function = function;
+	}
+
+	public double eval(double x) {
+		evaluations++;
+		return function.eval(x);
+	}
+
+	/**
+	 * @return amount of evaluations since the creation or the last {@link #reset()}
+	 */
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * Sets the amount of evaluations back to 0
+	 */
+	public void reset() {
+		evaluations = 0;
+	}
+}
@@ -0,0 +1,31 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents a function with one variable that evaluates its value and its derivative 
+ * together, in a single pass. The results are written into storage given by the caller, so evaluating 
+ * does not allocate.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * Function x^3 - 2x and its derivative are created this way:
+ * 
+ * final DifferentiableFunction f = new DifferentiableFunction(){
+ *           public void eval(double x, double[] result){
+ *          	double x2 = x * x;
+ *          	result[0] = x2 * x - 2 * x;
+ *          	result[1] = 3 * x2 - 2;
+ *           }
+ *      };
+ * <pre>
+ */
+public interface DifferentiableFunction {
+
+	/**
+	 * Evaluates the function and its derivative with the given X value.
+	 * 
+	 * @param x Value to be eval
+	 * @param result result[0] is set to the function value in x and result[1] to the derivative value in x
+	 */
+	public void eval(double x, double[] result);
+
+}
@@ -0,0 +1,35 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents a function from R^n to R^n that also evaluates its Jacobian matrix.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * The system x^2 + y^2 - 4 = 0, e^x + y - 1 = 0 and its Jacobian are created this way:
+ * 
+ * final DifferentiableVectorFunction f = new DifferentiableVectorFunction(){
+ *           public void eval(double[] x, double[] out){
+ *          	out[0] = x[0] * x[0] + x[1] * x[1] - 4;
+ *          	out[1] = Math.exp(x[0]) + x[1] - 1;
+ *           }
+ *           public void jacobian(double[] x, double[] out){
+ *          	out[0] = 2 * x[0];
+ *          	out[1] = 2 * x[1];
+ *          	out[2] = Math.exp(x[0]);
+ *          	out[3] = 1;
+ *           }
+ *      };
+ * <pre>
+ */
+public interface DifferentiableVectorFunction extends VectorFunction {
+
+	/**
+	 * Evaluates the Jacobian matrix with the given X values.
+	 * 
+	 * @param x Values to be eval, not modified
+	 * @param out row-major n x n matrix, out[i * n + j] is set to the derivative of the i-th component
+	 * with respect to x[j]
+	 */
+	public void jacobian(double[] x, double[] out);
+
+}
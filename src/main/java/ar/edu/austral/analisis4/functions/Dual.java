@@ -0,0 +1,204 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * <p>A dual number v + d&epsilon;, with &epsilon;<sup>2</sup> = 0, used for forward-mode automatic
+ * differentiation: evaluating a function on a dual number with derivative 1 gives the function value
+ * and its exact derivative in a single pass.</p>
+ *
+ * <p>Dual numbers are mutable so the temporaries of a function can be reused and evaluating allocates
+ * nothing. Every operation stores its result in this dual number and returns it; the operands can be
+ * this same object.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * Function sin(x) * x^2 is created this way:
+ *
+ * final DualFunction f = new DualFunction(){
+ *           private final Dual t = new Dual();
+ *           public void eval(Dual x, Dual result){
+ *          	t.pow(x, 2);
+ *          	result.sin(x).multiply(result, t);
+ *           }
+ *      };
+ * <pre>
+ */
+public final class Dual {
+
+	private double value;
+	private double derivative;
+
+	/**
+	 * Creates the constant 0
+	 */
+	public Dual() {
+	}
+
+	/**
+	 * @param value value
+	 * @param derivative derivative
+	 */
+	public Dual(double value, double derivative) {
+		this.value = value;
+		this.derivative = derivative;
+	}
+
+	/**
+	 * @return the value
+	 */
+	public double value() {
+		return value;
+	}
+
+	/**
+	 * @return the derivative
+	 */
+	public double derivative() {
+		return derivative;
+	}
+
+	public Dual set(double value, double derivative) {
+		this.value = value;
+		this.derivative = derivative;
+		return this;
+	}
+
+	public Dual set(Dual a) {
+		return set(a.value, a.derivative);
+	}
+
+	/**
+	 * Sets a constant: the derivative is 0
+	 */
+	public Dual constant(double value) {
+		return set(value, 0);
+	}
+
+	/**
+	 * Sets the variable of differentiation: the derivative is 1
+	 */
+	public Dual variable(double value) {
+		return set(value, 1);
+	}
+
+	public Dual add(Dual a, Dual b) {
+		return set(a.value + b.value, a.derivative + b.derivative);
+	}
+
+	public Dual add(Dual a, double b) {
+		return set(a.value + b, a.derivative);
+	}
+
+	public Dual subtract(Dual a, Dual b) {
+		return set(a.value - b.value, a.derivative - b.derivative);
+	}
+
+	public Dual subtract(Dual a, double b) {
+		return set(a.value - b, a.derivative);
+	}
+
+	public Dual subtract(double a, Dual b) {
+		return set(a - b.value, -b.derivative);
+	}
+
+	public Dual negate(Dual a) {
+		return set(-a.value, -a.derivative);
+	}
+
+	public Dual multiply(Dual a, Dual b) {
+		return set(a.value * b.value, a.derivative * b.value + a.value * b.derivative);
+	}
+
+	public Dual multiply(Dual a, double b) {
+		return set(a.value * b, a.derivative * b);
+	}
+
+	public Dual divide(Dual a, Dual b) {
+		double v = a.value / b.value;
+		return set(v, (a.derivative - v * b.derivative) / b.value);
+	}
+
+	public Dual divide(Dual a, double b) {
+		return set(a.value / b, a.derivative / b);
+	}
+
+	public Dual divide(double a, Dual b) {
+		double v = a / b.value;
+		return set(v, -v * b.derivative / b.value);
+	}
+
+	public Dual pow(Dual a, double n) {
+		return set(Math.pow(a.value, n), n * Math.pow(a.value, n - 1) * a.derivative);
+	}
+
+	public Dual pow(Dual a, Dual b) {
+		if (b.derivative == 0) {
+			return pow(a, b.value);
+		}
+		double v = Math.pow(a.value, b.value);
+		return set(v, v * (b.derivative * Math.log(a.value) + b.value * a.derivative / a.value));
+	}
+
+	public Dual sqrt(Dual a) {
+		double v = Math.sqrt(a.value);
+		return set(v, a.derivative / (2 * v));
+	}
+
+	public Dual exp(Dual a) {
+		double v = Math.exp(a.value);
+		return set(v, v * a.derivative);
+	}
+
+	public Dual log(Dual a) {
+		return set(Math.log(a.value), a.derivative / a.value);
+	}
+
+	public Dual sin(Dual a) {
+		return set(Math.sin(a.value), Math.cos(a.value) * a.derivative);
+	}
+
+	public Dual cos(Dual a) {
+		return set(Math.cos(a.value), -Math.sin(a.value) * a.derivative);
+	}
+
+	public Dual tan(Dual a) {
+		double v = Math.tan(a.value);
+		return set(v, (1 + v * v) * a.derivative);
+	}
+
+	public Dual asin(Dual a) {
+		return set(Math.asin(a.value), a.derivative / Math.sqrt(1 - a.value * a.value));
+	}
+
+	public Dual acos(Dual a) {
+		return set(Math.acos(a.value), -a.derivative / Math.sqrt(1 - a.value * a.value));
+	}
+
+	public Dual atan(Dual a) {
+		return set(Math.atan(a.value), a.derivative / (1 + a.value * a.value));
+	}
+
+	public Dual sinh(Dual a) {
+		return set(Math.sinh(a.value), Math.cosh(a.value) * a.derivative);
+	}
+
+	public Dual cosh(Dual a) {
+		return set(Math.cosh(a.value), Math.sinh(a.value) * a.derivative);
+	}
+
+	public Dual tanh(Dual a) {
+		double v = Math.tanh(a.value);
+		return set(v, (1 - v * v) * a.derivative);
+	}
+
+	/**
+	 * Absolute value, with derivative 0 in 0
+	 */
+	public Dual abs(Dual a) {
+		return set(Math.abs(a.value), Math.signum(a.value) * a.derivative);
+	}
+
+	@Override
+	public String toString() {
+		return value + " + " + derivative + "e";
+	}
+}
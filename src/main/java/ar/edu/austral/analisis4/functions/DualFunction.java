@@ -0,0 +1,33 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents a function with one variable written over {@link Dual} numbers, so a single
+ * evaluation gives its value and its exact derivative (forward-mode automatic differentiation).
+ * Temporaries can be kept as fields of the function, so evaluating does not allocate.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * Function e^x - 3x is created this way:
+ * 
+ * final DualFunction f = new DualFunction(){
+ *           private final Dual t = new Dual();
+ *           public void eval(Dual x, Dual result){
+ *          	t.multiply(x, 3);
+ *          	result.exp(x).subtract(result, t);
+ *           }
+ *      };
+ * <pre>
+ * 
+ * @see DualFunctions
+ */
+public interface DualFunction {
+
+	/**
+	 * Evaluates the function with the given X value.
+	 * 
+	 * @param x Value to be eval, with the derivative of x with respect to the variable of differentiation
+	 * @param result is set to the function value in x and its derivative
+	 */
+	public void eval(Dual x, Dual result);
+
+}
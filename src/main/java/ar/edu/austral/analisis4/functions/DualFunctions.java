@@ -0,0 +1,112 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * Adapters from functions written over {@link Dual} numbers to the other kinds of functions, so they can be
+ * used by every method of the library. The adapters keep their own dual numbers to avoid allocating on each
+ * evaluation, so a single adapter must not be used by several threads at the same time.
+ */
+public final class DualFunctions {
+
+	private DualFunctions() {
+	}
+
+	/**
+	 * @param f function
+	 * @return f as a function that evaluates its value and its exact derivative together
+	 */
+	public static DifferentiableFunction differentiable(final DualFunction f) {
+		return new DifferentiableFunction() {
+			private final Dual x = new Dual();
+			private final Dual result = new Dual();
+
+			public void eval(double value, double[] out) {
+				f.eval(x.variable(value), result);
+				out[0] = result.value();
+				out[1] = result.derivative();
+			}
+		};
+	}
+
+	/**
+	 * @param f function
+	 * @return the value of f
+	 */
+	public static OneVariableFunction value(final DualFunction f) {
+		return new OneVariableFunction() {
+			private final Dual x = new Dual();
+			private final Dual result = new Dual();
+
+			public double eval(double value) {
+				f.eval(x.constant(value), result);
+				return result.value();
+			}
+		};
+	}
+
+	/**
+	 * @param f function
+	 * @return the exact derivative of f
+	 */
+	public static OneVariableFunction derivative(final DualFunction f) {
+		return new OneVariableFunction() {
+			private final Dual x = new Dual();
+			private final Dual result = new Dual();
+
+			public double eval(double value) {
+				f.eval(x.variable(value), result);
+				return result.derivative();
+			}
+		};
+	}
+
+	/**
+	 * @param f function
+	 * @return the value of f
+	 */
+	public static TwoVariableFunction value(final DualTwoVariableFunction f) {
+		return new TwoVariableFunction() {
+			private final Dual x = new Dual();
+			private final Dual y = new Dual();
+			private final Dual result = new Dual();
+
+			public double eval(double xValue, double yValue) {
+				f.eval(x.constant(xValue), y.constant(yValue), result);
+				return result.value();
+			}
+		};
+	}
+
+	/**
+	 * @param f function
+	 * @return the exact partial derivative of f with respect to y
+	 */
+	public static TwoVariableFunction partialY(final DualTwoVariableFunction f) {
+		return new TwoVariableFunction() {
+			private final Dual x = new Dual();
+			private final Dual y = new Dual();
+			private final Dual result = new Dual();
+
+			public double eval(double xValue, double yValue) {
+				f.eval(x.constant(xValue), y.variable(yValue), result);
+				return result.derivative();
+			}
+		};
+	}
+
+	/**
+	 * @param f function
+	 * @return the exact partial derivative of f with respect to x
+	 */
+	public static TwoVariableFunction partialX(final DualTwoVariableFunction f) {
+		return new TwoVariableFunction() {
+			private final Dual x = new Dual();
+			private final Dual y = new Dual();
+			private final Dual result = new Dual();
+
+			public double eval(double xValue, double yValue) {
+				f.eval(x.variable(xValue), y.constant(yValue), result);
+				return result.derivative();
+			}
+		};
+	}
+}
@@ -0,0 +1,34 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents a function with two variable written over {@link Dual} numbers. Seeding y with
+ * derivative 1 and x with derivative 0 gives the partial derivative with respect to y, as needed by the
+ * implicit steps of differential equations; seeding x gives the partial derivative with respect to x.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * Function sen(x) - y^2 is created this way:
+ * 
+ * final DualTwoVariableFunction f2 = new DualTwoVariableFunction(){
+ *           private final Dual t = new Dual();
+ *           public void eval(Dual x, Dual y, Dual result){
+ *          	t.multiply(y, y);
+ *          	result.sin(x).subtract(result, t);
+ *           }
+ *      };
+ * <pre>
+ * 
+ * @see DualFunctions
+ */
+public interface DualTwoVariableFunction {
+
+	/**
+	 * Evaluates the function with the given X and Y values.
+	 * 
+	 * @param x Value to be eval
+	 * @param y Value to be eval
+	 * @param result is set to the function value in x and y and its derivative
+	 */
+	public void eval(Dual x, Dual y, Dual result);
+
+}
@@ -0,0 +1,31 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * Utility methods over {@link OneVariableFunction}.
+ */
+public final class OneVariableFunctions {
+
+	private OneVariableFunctions() {
+	}
+
+	/**
+	 * Evaluates f in xs[off], ..., xs[off + len - 1] and stores the results in the same positions of out.
+	 * Uses the bulk kernel of f when it is a {@link BulkOneVariableFunction}, otherwise evaluates
+	 * one point at a time. xs and out can be the same array.
+	 * 
+	 * @param f function
+	 * @param xs values to be eval
+	 * @param out where the function values are stored
+	 * @param off first position to be eval
+	 * @param len amount of values to be eval
+	 */
+	public static void eval(OneVariableFunction f, double[] xs, double[] out, int off, int len) {
+		if (f instanceof BulkOneVariableFunction) {
+			((BulkOneVariableFunction) f).eval(xs, out, off, len);
+			return;
+		}
+		for (int i = off, end = off + len; i < end; i++) {
+			out[i] = f.eval(xs[i]);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents several functions of one variable that are evaluated together, like the members
+ * of a family that share most of their work. The results are written into storage given by the caller,
+ * so evaluating does not allocate.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * Functions e^x, x e^x and x^2 e^x are created this way:
+ * 
+ * final OneVariableVectorFunction f = new OneVariableVectorFunction(){
+ *           public void eval(double x, double[] out){
+ *          	double e = Math.exp(x);
+ *          	out[0] = e;
+ *          	out[1] = x * e;
+ *          	out[2] = x * x * e;
+ *           }
+ *      };
+ * <pre>
+ */
+public interface OneVariableVectorFunction {
+
+	/**
+	 * Evaluates every function in x.
+	 * 
+	 * @param x Value to be eval
+	 * @param out out[i] is set to the i-th function in x
+	 */
+	public void eval(double x, double[] out);
+
+}
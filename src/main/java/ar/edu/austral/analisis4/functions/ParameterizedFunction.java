@@ -0,0 +1,29 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents a family of functions of one variable, indexed by a parameter.
+ * It is used to solve or integrate many members of the family at once.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * Family x^2 - p is created this way:
+ * 
+ * final ParameterizedFunction f = new ParameterizedFunction(){
+ *           public double eval(double x, double p){
+ *          	return x * x - p;
+ *           }
+ *      };
+ * <pre>
+ */
+public interface ParameterizedFunction {
+
+	/**
+	 * Evaluates the member of the family given by the parameter in x.
+	 * 
+	 * @param x Value to be eval
+	 * @param parameter parameter of the member of the family
+	 * @return the function value in x
+	 */
+	public double eval(double x, double parameter);
+
+}
@@ -0,0 +1,32 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * Utility methods over {@link TwoVariableFunction}.
+ */
+public final class TwoVariableFunctions {
+
+	private TwoVariableFunctions() {
+	}
+
+	/**
+	 * Evaluates f in (xs[off], ys[off]), ..., (xs[off + len - 1], ys[off + len - 1]) and stores the results
+	 * in the same positions of out. Uses the bulk kernel of f when it is a {@link BulkTwoVariableFunction},
+	 * otherwise evaluates one point at a time. out can be the same array as xs or ys.
+	 * 
+	 * @param f function
+	 * @param xs x values to be eval
+	 * @param ys y values to be eval
+	 * @param out where the function values are stored
+	 * @param off first position to be eval
+	 * @param len amount of values to be eval
+	 */
+	public static void eval(TwoVariableFunction f, double[] xs, double[] ys, double[] out, int off, int len) {
+		if (f instanceof BulkTwoVariableFunction) {
+			((BulkTwoVariableFunction) f).eval(xs, ys, out, off, len);
+			return;
+		}
+		for (int i = off, end = off + len; i < end; i++) {
+			out[i] = f.eval(xs[i], ys[i]);
+		}
+	}
+}
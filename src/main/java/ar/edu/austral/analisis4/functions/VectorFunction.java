@@ -0,0 +1,29 @@
+package ar.edu.austral.analisis4.functions;
+
+/**
+ * This class represents a function from R^n to R^n, like the left hand side of a system of n equations
+ * F(x) = 0. The result is written into storage given by the caller, so evaluating does not allocate.
+ * 
+ * <b>Example</b>
+ * <pre>
+ * The system x^2 + y^2 - 4 = 0, e^x + y - 1 = 0 is created this way:
+ * 
+ * final VectorFunction f = new VectorFunction(){
+ *           public void eval(double[] x, double[] out){
+ *          	out[0] = x[0] * x[0] + x[1] * x[1] - 4;
+ *          	out[1] = Math.exp(x[0]) + x[1] - 1;
+ *           }
+ *      };
+ * <pre>
+ */
+public interface VectorFunction {
+
+	/**
+	 * Evaluates the function with the given X values.
+	 * 
+	 * @param x Values to be eval, not modified
+	 * @param out out[i] is set to the i-th component of the function in x
+	 */
+	public void eval(double[] x, double[] out);
+
+}
@@ -0,0 +1,88 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+/**
+ * One axis of a grid. Segments are found in O(1) by index arithmetic when the knots are equally spaced,
+ * and by binary search otherwise. Values outside the knots belong to the first or last segment.
+ */
+final class Axis {
+
+	/** Knots, null when they are equally spaced */
+	private final double[] knots;
+	private final double first;
+	private final double step;
+	private final double inverseStep;
+	/** Amount of segments, one less than the amount of knots */
+	final int segments;
+
+	/**
+	 * @param knots ascending knots, at least two. The array is kept, not copied.
+	 */
+	Axis(double[] knots) {
+		if (knots.length < 2) {
+			throw new IllegalArgumentException("" + knots.length);
+		}
+		this.segments = knots.length - 1;
+		this.first = knots[0];
+		if (Knots.isUniform(knots)) {
+			this.knots = null;
+			this.step = (knots[segments] - first) / segments;
+		} else {
+			this.knots = knots;
+			this.step = Double.NaN;
+		}
+		this.inverseStep = 1 / step;
+	}
+
+	/**
+	 * @param first first knot
+	 * @param step distance between two consecutive knots, positive
+	 * @param points amount of knots, at least two
+	 */
+	Axis(double first, double step, int points) {
+		if (!(step > 0) || points < 2) {
+			throw new IllegalArgumentException("step: " + step + ", points: " + points);
+		}
+		this.knots = null;
+		this.segments = points - 1;
+		this.first = first;
+		this.step = step;
+		this.inverseStep = 1 / step;
+	}
+
+	/**
+	 * @return amount of knots
+	 */
+	int points() {
+		return segments + 1;
+	}
+
+	/**
+	 * @param i knot index
+	 * @return the knot i
+	 */
+	double knot(int i) {
+		return knots == null ? first + i * step : knots[i];
+	}
+
+	/**
+	 * @param x value to locate
+	 * @return the segment that contains x, in [0, segments - 1]
+	 */
+	int segment(double x) {
+		if (knots != null) {
+			return Knots.search(knots, x);
+		}
+		int i = (int) ((x - first) * inverseStep);
+		return i < 0 ? 0 : (i >= segments ? segments - 1 : i);
+	}
+
+	/**
+	 * Same as {@link #segment(double)}, walking from the segment of the previous value on sorted sweeps
+	 * @param x value to locate
+	 * @param previous segment of the previous value
+	 * @return the segment that contains x, in [0, segments - 1]
+	 */
+	int sweep(double x, int previous) {
+		return knots == null ? segment(x) : Knots.sweep(knots, x, previous);
+	}
+}
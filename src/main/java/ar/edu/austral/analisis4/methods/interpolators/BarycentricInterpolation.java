@@ -0,0 +1,216 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.vecmath.Point2d;
+
+import ar.edu.austral.analisis4.functions.BulkOneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
+
+/**
+ * <p>Barycentric Lagrange interpolation evaluates the interpolating polynomial of a data set as</p>
+ * <pre>
+ * p(x) = sum(w[j] * y[j] / (x - x[j])) / sum(w[j] / (x - x[j]))
+ * </pre>
+ * <p>where the weights w[j] = 1 / prod(x[j] - x[k], k != j) depend only on the nodes. It is the same polynomial
+ * given by {@link NewtonInterpolation}, but evaluation is O(N) and numerically stable even for high degrees.</p>
+ *
+ * <p>Adding a node updates the weights in O(N). For Chebyshev nodes of the first and second kind the weights
+ * have a closed form, so {@link #chebyshevFirstKind(OneVariableFunction, double, double, int)} and
+ * {@link #chebyshevSecondKind(OneVariableFunction, double, double, int)} build the interpolation in O(N):
+ * the usual way to get a polynomial surrogate of an expensive function.</p>
+ *
+ * <p>The interpolation must not be evaluated from other threads while points are being added.</p>
+ */
+public class BarycentricInterpolation implements BulkOneVariableFunction {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private double[] nodes;
+	private double[] values;
+	/** Barycentric weights, up to a common factor that cancels out in the formula */
+	private double[] weights;
+	private int size;
+
+	/**
+	 * Creates an empty interpolation, to be filled with {@link #addPoint(double, double)}
+	 */
+	public BarycentricInterpolation() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty interpolation, to be filled with {@link #addPoint(double, double)}
+	 * @param capacity expected amount of points
+	 */
+	public BarycentricInterpolation(int capacity) {
+		capacity = Math.max(capacity, 1);
+		nodes = new double[capacity];
+		values = new double[capacity];
+		weights = new double[capacity];
+	}
+
+	private BarycentricInterpolation(double[] nodes, double[] values, double[] weights) {
+		this.nodes = nodes;
+		this.values = values;
+		this.weights = weights;
+		this.size = nodes.length;
+	}
+
+	/**
+	 * Interpolates the function
+	 * @param points Set of point to be use
+	 * @return the interpolation, a OneVariableFunction
+	 */
+	public static BarycentricInterpolation interpolate(final List<Point2d> points) {
+		BarycentricInterpolation interpolation = new BarycentricInterpolation(points.size());
+		for (int i = 0; i < points.size(); i++) {
+			interpolation.addPoint(points.get(i).x, points.get(i).y);
+		}
+		return interpolation;
+	}
+
+	/**
+	 * Interpolates f in the n Chebyshev points of the first kind of [a,b], the roots of T(n).
+	 * @param f function to interpolate, evaluated n times
+	 * @param a starpoint
+	 * @param b endpoint
+	 * @param n amount of points
+	 * @return the interpolation, a OneVariableFunction
+	 */
+	public static BarycentricInterpolation chebyshevFirstKind(OneVariableFunction f, double a, double b, int n) {
+		if (n < 1) {
+			throw new IllegalArgumentException("" + n);
+		}
+		double[] nodes = new double[n];
+		double[] weights = new double[n];
+		for (int j = 0; j < n; j++) {
+			double theta = (2 * j + 1) * Math.PI / (2 * n);
+			nodes[j] = map(Math.cos(theta), a, b);
+			weights[j] = (j % 2 == 0 ? 1 : -1) * Math.sin(theta);
+		}
+		return sample(f, nodes, weights);
+	}
+
+	/**
+	 * Interpolates f in the n Chebyshev points of the second kind of [a,b], the extrema of T(n-1),
+	 * which include a and b.
+	 * @param f function to interpolate, evaluated n times
+	 * @param a starpoint
+	 * @param b endpoint
+	 * @param n amount of points, at least 2
+	 * @return the interpolation, a OneVariableFunction
+	 */
+	public static BarycentricInterpolation chebyshevSecondKind(OneVariableFunction f, double a, double b, int n) {
+		if (n < 2) {
+			throw new IllegalArgumentException("" + n);
+		}
+		double[] nodes = new double[n];
+		double[] weights = new double[n];
+		for (int j = 0; j < n; j++) {
+			nodes[j] = map(Math.cos(j * Math.PI / (n - 1)), a, b);
+			weights[j] = j % 2 == 0 ? 1 : -1;
+		}
+		weights[0] /= 2;
+		weights[n - 1] /= 2;
+		return sample(f, nodes, weights);
+	}
+
+	private static double map(double t, double a, double b) {
+		return (a + b) / 2 + (b - a) / 2 * t;
+	}
+
+	private static BarycentricInterpolation sample(OneVariableFunction f, double[] nodes, double[] weights) {
+		double[] values = new double[nodes.length];
+		OneVariableFunctions.eval(f, nodes, values, 0, nodes.length);
+		return new BarycentricInterpolation(nodes, values, weights);
+	}
+
+	/**
+	 * Adds a point to the interpolation, updating the weights in O(N).
+	 * @param x x value of the point, different from the x values already added
+	 * @param y y value of the point
+	 */
+	public void addPoint(double x, double y) {
+		final int n = size;
+		for (int i = 0; i < n; i++) {
+			if (x == nodes[i]) {
+				throw new IllegalArgumentException("Repeated node: " + x);
+			}
+		}
+		if (n == nodes.length) {
+			int capacity = n << 1;
+			nodes = Arrays.copyOf(nodes, capacity);
+			values = Arrays.copyOf(values, capacity);
+			weights = Arrays.copyOf(weights, capacity);
+		}
+		if (n == 0) {
+			weights[0] = 1;
+		} else {
+			// the new weight is computed relative to the largest one, as a product of ratios
+			// that neither overflows nor depends on the common factor of the stored weights
+			int r = 0;
+			for (int k = 0; k < n; k++) {
+				weights[k] /= nodes[k] - x;
+				if (Math.abs(weights[k]) > Math.abs(weights[r])) {
+					r = k;
+				}
+			}
+			double ratio = -1;
+			for (int k = 0; k < n; k++) {
+				if (k != r) {
+					ratio *= (nodes[r] - nodes[k]) / (x - nodes[k]);
+				}
+			}
+			weights[n] = weights[r] * ratio;
+			double scale = 1 / Math.abs(weights[r]);
+			for (int k = 0; k <= n; k++) {
+				weights[k] *= scale;
+			}
+		}
+		nodes[n] = x;
+		values[n] = y;
+		size = n + 1;
+	}
+
+	/**
+	 * @return amount of points of the interpolation
+	 */
+	public int size() {
+		return size;
+	}
+
+	public double eval(double x) {
+		return barycentric(nodes, values, weights, size, x);
+	}
+
+	public void eval(double[] xs, double[] out, int off, int len) {
+		final double[] nodes = this.nodes;
+		final double[] values = this.values;
+		final double[] weights = this.weights;
+		final int n = size;
+		for (int k = off, end = off + len; k < end; k++) {
+			out[k] = barycentric(nodes, values, weights, n, xs[k]);
+		}
+	}
+
+	private static double barycentric(double[] nodes, double[] values, double[] weights, int n, double x) {
+		if (n == 0) {
+			return 0;
+		}
+		double numerator = 0;
+		double denominator = 0;
+		for (int j = 0; j < n; j++) {
+			double d = x - nodes[j];
+			if (d == 0) {
+				return values[j];
+			}
+			double t = weights[j] / d;
+			numerator += t * values[j];
+			denominator += t;
+		}
+		return numerator / denominator;
+	}
+}
@@ -0,0 +1,202 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import ar.edu.austral.analisis4.functions.BulkTwoVariableFunction;
+
+/**
+ * <p>Bicubic interpolation of a function sampled on a rectangular grid. Inside each cell the value is the
+ * bicubic Hermite patch that matches the samples and the derivatives f<sub>x</sub>, f<sub>y</sub> and
+ * f<sub>xy</sub> in the four corners. The derivatives are estimated with finite differences of the neighbour
+ * samples (central inside the grid, one-sided on the border), so the surface is smooth across cells.</p>
+ *
+ * <p>The samples are a flat row-major array, z[j * nx + i] being the value in (x[i], y[j]). Cells are found in
+ * O(1) on equally spaced axes and by binary search otherwise. Values outside the grid are extrapolated
+ * with the border cells.</p>
+ *
+ * <p>By default the patch of a cell is built from its neighbours on every evaluation, which needs no extra
+ * memory. When asked, the 16 coefficients of every patch are precomputed instead: evaluation is then a
+ * bicubic polynomial, at the cost of 16 doubles per cell.</p>
+ */
+public class BicubicInterpolation implements BulkTwoVariableFunction {
+
+	private final Axis xAxis;
+	private final Axis yAxis;
+	private final int nx;
+	private final int ny;
+	private final double[] z;
+	/** 16 coefficients per cell, a[p * 4 + q] of u^p * v^q, or null if they are not precomputed */
+	private final double[] patches;
+
+	private BicubicInterpolation(Axis xAxis, Axis yAxis, double[] z, boolean precompute) {
+		this.xAxis = xAxis;
+		this.yAxis = yAxis;
+		this.nx = xAxis.points();
+		this.ny = yAxis.points();
+		if (z.length != nx * ny) {
+			throw new IllegalArgumentException(z.length + " != " + nx + " * " + ny);
+		}
+		this.z = z;
+		this.patches = precompute ? precompute() : null;
+	}
+
+	/**
+	 * Interpolates the grid. Equally spaced axes are detected.
+	 * @param x ascending x values of the grid, at least two
+	 * @param y ascending y values of the grid, at least two
+	 * @param z row-major samples, z[j * x.length + i] is the value in (x[i], y[j])
+	 * @param precompute true to precompute the coefficients of every cell
+	 * @return the interpolation, a TwoVariableFunction
+	 */
+	public static BicubicInterpolation interpolate(double[] x, double[] y, double[] z, boolean precompute) {
+		return new BicubicInterpolation(new Axis(x.clone()), new Axis(y.clone()), z.clone(), precompute);
+	}
+
+	/**
+	 * Interpolates a grid with equally spaced axes.
+	 * @param x0 first x value
+	 * @param dx distance between two consecutive x values, positive
+	 * @param nx amount of x values, at least two
+	 * @param y0 first y value
+	 * @param dy distance between two consecutive y values, positive
+	 * @param z row-major samples, z[j * nx + i] is the value in (x0 + i * dx, y0 + j * dy)
+	 * @param precompute true to precompute the coefficients of every cell
+	 * @return the interpolation, a TwoVariableFunction
+	 */
+	public static BicubicInterpolation interpolateUniform(double x0, double dx, int nx, double y0, double dy, double[] z,
+			boolean precompute) {
+		return new BicubicInterpolation(new Axis(x0, dx, nx), new Axis(y0, dy, z.length / Math.max(nx, 1)), z.clone(),
+				precompute);
+	}
+
+	public double eval(double x, double y) {
+		return eval(xAxis.segment(x), yAxis.segment(y), x, y);
+	}
+
+	public void eval(double[] xs, double[] ys, double[] out, int off, int len) {
+		int i = 0;
+		int j = 0;
+		for (int k = off, end = off + len; k < end; k++) {
+			double x = xs[k];
+			double y = ys[k];
+			i = xAxis.sweep(x, i);
+			j = yAxis.sweep(y, j);
+			out[k] = eval(i, j, x, y);
+		}
+	}
+
+	private double eval(int i, int j, double x, double y) {
+		final double x0 = xAxis.knot(i);
+		final double y0 = yAxis.knot(j);
+		final double hx = xAxis.knot(i + 1) - x0;
+		final double hy = yAxis.knot(j + 1) - y0;
+		final double u = (x - x0) / hx;
+		final double v = (y - y0) / hy;
+		if (patches != null) {
+			final int c = (j * (nx - 1) + i) << 4;
+			double value = 0;
+			for (int p = 3; p >= 0; p--) {
+				final int row = c + (p << 2);
+				value = value * u + (((patches[row + 3] * v + patches[row + 2]) * v + patches[row + 1]) * v + patches[row]);
+			}
+			return value;
+		}
+		// cubic Hermite basis: a0, a1 weight the values and b0, b1 the derivatives in 0 and 1
+		final double u2 = u * u;
+		final double u3 = u2 * u;
+		final double au0 = 2 * u3 - 3 * u2 + 1;
+		final double au1 = -2 * u3 + 3 * u2;
+		final double bu0 = (u3 - 2 * u2 + u) * hx;
+		final double bu1 = (u3 - u2) * hx;
+		final double v2 = v * v;
+		final double v3 = v2 * v;
+		final double av0 = 2 * v3 - 3 * v2 + 1;
+		final double av1 = -2 * v3 + 3 * v2;
+		final double bv0 = (v3 - 2 * v2 + v) * hy;
+		final double bv1 = (v3 - v2) * hy;
+		return corner(i, j, au0, bu0, av0, bv0) + corner(i + 1, j, au1, bu1, av0, bv0)
+				+ corner(i, j + 1, au0, bu0, av1, bv1) + corner(i + 1, j + 1, au1, bu1, av1, bv1);
+	}
+
+	/**
+	 * Contribution of the grid node (i, j) to a patch, given the Hermite basis of its corner
+	 */
+	private double corner(int i, int j, double au, double bu, double av, double bv) {
+		return z[j * nx + i] * au * av + dx(i, j) * bu * av + dy(i, j) * au * bv + dxy(i, j) * bu * bv;
+	}
+
+	private double dx(int i, int j) {
+		final int im = Math.max(i - 1, 0);
+		final int ip = Math.min(i + 1, nx - 1);
+		final int row = j * nx;
+		return (z[row + ip] - z[row + im]) / (xAxis.knot(ip) - xAxis.knot(im));
+	}
+
+	private double dy(int i, int j) {
+		final int jm = Math.max(j - 1, 0);
+		final int jp = Math.min(j + 1, ny - 1);
+		return (z[jp * nx + i] - z[jm * nx + i]) / (yAxis.knot(jp) - yAxis.knot(jm));
+	}
+
+	private double dxy(int i, int j) {
+		final int im = Math.max(i - 1, 0);
+		final int ip = Math.min(i + 1, nx - 1);
+		final int jm = Math.max(j - 1, 0);
+		final int jp = Math.min(j + 1, ny - 1);
+		final double difference = z[jp * nx + ip] - z[jp * nx + im] - z[jm * nx + ip] + z[jm * nx + im];
+		return difference / ((xAxis.knot(ip) - xAxis.knot(im)) * (yAxis.knot(jp) - yAxis.knot(jm)));
+	}
+
+	/**
+	 * Coefficients of every patch: a = M * F * M', with F the corner values and scaled derivatives
+	 * and M the matrix of the cubic Hermite basis.
+	 */
+	private double[] precompute() {
+		final double[] patches = new double[((nx - 1) * (ny - 1)) << 4];
+		final double[] f = new double[16];
+		final double[] mf = new double[16];
+		for (int j = 0; j < ny - 1; j++) {
+			final double hy = yAxis.knot(j + 1) - yAxis.knot(j);
+			for (int i = 0; i < nx - 1; i++) {
+				final double hx = xAxis.knot(i + 1) - xAxis.knot(i);
+				for (int a = 0; a < 2; a++) {
+					for (int b = 0; b < 2; b++) {
+						f[(a << 2) + b] = z[(j + b) * nx + i + a];
+						f[(a << 2) + b + 2] = dy(i + a, j + b) * hy;
+						f[((a + 2) << 2) + b] = dx(i + a, j + b) * hx;
+						f[((a + 2) << 2) + b + 2] = dxy(i + a, j + b) * hx * hy;
+					}
+				}
+				final int c = (j * (nx - 1) + i) << 4;
+				multiply(HERMITE, f, mf);
+				for (int p = 0; p < 4; p++) {
+					for (int q = 0; q < 4; q++) {
+						double sum = 0;
+						for (int k = 0; k < 4; k++) {
+							sum += mf[(p << 2) + k] * HERMITE[(q << 2) + k];
+						}
+						patches[c + (p << 2) + q] = sum;
+					}
+				}
+			}
+		}
+		return patches;
+	}
+
+	private static void multiply(double[] a, double[] b, double[] out) {
+		for (int p = 0; p < 4; p++) {
+			for (int q = 0; q < 4; q++) {
+				double sum = 0;
+				for (int k = 0; k < 4; k++) {
+					sum += a[(p << 2) + k] * b[(k << 2) + q];
+				}
+				out[(p << 2) + q] = sum;
+			}
+		}
+	}
+
+	/** Coefficients of 1, t, t^2, t^3 (rows) in terms of p(0), p(1), p'(0), p'(1) (columns) */
+	private static final double[] HERMITE = {
+			1, 0, 0, 0,
+			0, 0, 1, 0,
+			-3, 3, -2, -1,
+			2, -2, 1, 1 };
+}
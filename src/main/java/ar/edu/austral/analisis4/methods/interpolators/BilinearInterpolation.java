@@ -0,0 +1,81 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import ar.edu.austral.analisis4.functions.BulkTwoVariableFunction;
+
+/**
+ * <p>Bilinear interpolation of a function sampled on a rectangular grid: inside each cell the value is
+ * interpolated linearly in x and then in y.</p>
+ *
+ * <p>The samples are a flat row-major array, z[j * nx + i] being the value in (x[i], y[j]). Cells are found in
+ * O(1) on equally spaced axes and by binary search otherwise. Values outside the grid are extrapolated
+ * with the border cells, like {@link LinearInterpolation}.</p>
+ */
+public class BilinearInterpolation implements BulkTwoVariableFunction {
+
+	private final Axis xAxis;
+	private final Axis yAxis;
+	private final int nx;
+	private final double[] z;
+
+	private BilinearInterpolation(Axis xAxis, Axis yAxis, double[] z) {
+		this.xAxis = xAxis;
+		this.yAxis = yAxis;
+		this.nx = xAxis.points();
+		if (z.length != nx * yAxis.points()) {
+			throw new IllegalArgumentException(z.length + " != " + nx + " * " + yAxis.points());
+		}
+		this.z = z;
+	}
+
+	/**
+	 * Interpolates the grid. Equally spaced axes are detected.
+	 * @param x ascending x values of the grid, at least two
+	 * @param y ascending y values of the grid, at least two
+	 * @param z row-major samples, z[j * x.length + i] is the value in (x[i], y[j])
+	 * @return the interpolation, a TwoVariableFunction
+	 */
+	public static BilinearInterpolation interpolate(double[] x, double[] y, double[] z) {
+		return new BilinearInterpolation(new Axis(x.clone()), new Axis(y.clone()), z.clone());
+	}
+
+	/**
+	 * Interpolates a grid with equally spaced axes.
+	 * @param x0 first x value
+	 * @param dx distance between two consecutive x values, positive
+	 * @param nx amount of x values, at least two
+	 * @param y0 first y value
+	 * @param dy distance between two consecutive y values, positive
+	 * @param z row-major samples, z[j * nx + i] is the value in (x0 + i * dx, y0 + j * dy)
+	 * @return the interpolation, a TwoVariableFunction
+	 */
+	public static BilinearInterpolation interpolateUniform(double x0, double dx, int nx, double y0, double dy, double[] z) {
+		return new BilinearInterpolation(new Axis(x0, dx, nx), new Axis(y0, dy, z.length / Math.max(nx, 1)), z.clone());
+	}
+
+	public double eval(double x, double y) {
+		return eval(xAxis.segment(x), yAxis.segment(y), x, y);
+	}
+
+	public void eval(double[] xs, double[] ys, double[] out, int off, int len) {
+		int i = 0;
+		int j = 0;
+		for (int k = off, end = off + len; k < end; k++) {
+			double x = xs[k];
+			double y = ys[k];
+			i = xAxis.sweep(x, i);
+			j = yAxis.sweep(y, j);
+			out[k] = eval(i, j, x, y);
+		}
+	}
+
+	private double eval(int i, int j, double x, double y) {
+		final double x0 = xAxis.knot(i);
+		final double y0 = yAxis.knot(j);
+		final double u = (x - x0) / (xAxis.knot(i + 1) - x0);
+		final double v = (y - y0) / (yAxis.knot(j + 1) - y0);
+		final int c = j * nx + i;
+		final double bottom = z[c] + u * (z[c + 1] - z[c]);
+		final double top = z[c + nx] + u * (z[c + nx + 1] - z[c + nx]);
+		return bottom + v * (top - bottom);
+	}
+}
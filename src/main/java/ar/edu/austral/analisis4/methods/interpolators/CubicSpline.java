@@ -4,83 +4,276 @@ import java.util.List;
 
 import javax.vecmath.Point2d;
 
+import ar.edu.austral.analisis4.functions.BulkOneVariableFunction;
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
 
 /**
- * <p>In mathematics, a spline is a sufficiently smooth polynomial function that is piecewise-defined, 
- * and possesses a high degree of smoothness at the places where the polynomial pieces connect 
+ * <p>In mathematics, a spline is a sufficiently smooth polynomial function that is piecewise-defined,
+ * and possesses a high degree of smoothness at the places where the polynomial pieces connect
  * (which are known as knots). The cubic spline is one of the most commons (polynomial of order 3) </p>
  * <img src="CubicSpline.jpeg"/>
+ *
+ * <p>The fitted spline keeps its knots and coefficients in flat arrays. Each evaluation finds its segment
+ * by binary search (remembering the last segment hit, so monotone queries are O(1)) and evaluates the
+ * cubic with Horner's rule. Bulk evaluation walks the segments in a single pass when the values are sorted.</p>
+ *
+ * <p>Derivatives and integrals are computed exactly from the coefficients: {@link #derivative()},
+ * {@link #secondDerivative()}, {@link #integral(double, double)} and {@link #cumulativeIntegral()}.
+ * Like the spline itself, they are 0 outside the knots.</p>
  */
 
-public class CubicSpline{
-	
+public class CubicSpline implements BulkOneVariableFunction {
+
+	private final double[] knots;
+	/** Four coefficients per segment: s0, s1, s2, s3 of s0 + s1*t + s2*t^2 + s3*t^3, with t = x - knots[i] */
+	private final double[] coefficients;
+	/** Last segment hit, only used as a search hint */
+	private int cursor;
+	/** areas[i] is the integral from the first knot to knots[i], computed on first use */
+	private volatile double[] areas;
+
+	private CubicSpline(double[] knots, double[] coefficients) {
+		this.knots = knots;
+		this.coefficients = coefficients;
+	}
+
     /**
      * Interpolates the function
      * @param points Set of point to be use
-     * @return OneVariableFunction
+     * @return the spline, a OneVariableFunction
      */
-	
-    public static OneVariableFunction interpolate(final List<Point2d> points) {
+    public static CubicSpline interpolate(final List<Point2d> points) {
         final int n = points.size();
-        final double[][] constants = calculateConstant(points);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            Point2d point = points.get(i);
+            x[i] = point.x;
+            y[i] = point.y;
+        }
+        return new CubicSpline(x, calculateConstant(x, y));
+    }
+
+    /**
+     * Interpolates the function
+     * @param x ascending x values of the knots
+     * @param y y values of the knots
+     * @return the spline, a OneVariableFunction
+     */
+    public static CubicSpline interpolate(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(x.length + " != " + y.length);
+        }
+        return new CubicSpline(x.clone(), calculateConstant(x, y));
+    }
+
+    /**
+     * Interpolates the function and its derivative (cubic Hermite interpolation). Each segment is the cubic
+     * that matches the values and the derivatives in its ends, so the error is O(h^4) up to the first and
+     * last knots, while the spline of {@link #interpolate(double[], double[])} assumes a null second
+     * derivative there.
+     * @param x ascending x values of the knots
+     * @param y y values of the knots
+     * @param derivatives derivatives in the knots
+     * @return the spline, a OneVariableFunction with continuous first derivative
+     */
+    public static CubicSpline interpolateHermite(double[] x, double[] y, double[] derivatives) {
+        if (x.length != y.length || x.length != derivatives.length) {
+            throw new IllegalArgumentException(x.length + " != " + y.length + " != " + derivatives.length);
+        }
+        final int n = x.length;
+        double[] s = new double[(n - 1) << 2];
+        for (int i = 0, c = 0; i < n - 1; i++, c += 4) {
+            double h = x[i + 1] - x[i];
+            double slope = (y[i + 1] - y[i]) / h;
+            s[c + 3] = (derivatives[i] + derivatives[i + 1] - 2 * slope) / (h * h);
+            s[c + 2] = (3 * slope - 2 * derivatives[i] - derivatives[i + 1]) / h;
+            s[c + 1] = derivatives[i];
+            s[c] = y[i];
+        }
+        return new CubicSpline(x.clone(), s);
+    }
+
+    /**
+     * Builds the spline from its second derivatives in the knots. The knots array is kept, not copied.
+     * @param knots ascending x values of the knots
+     * @param values y values of the knots
+     * @param secondDerivatives second derivative of the spline in each knot
+     * @return the spline
+     */
+    static CubicSpline create(double[] knots, double[] values, double[] secondDerivatives) {
+        return new CubicSpline(knots, calculateConstant(knots, values, secondDerivatives));
+    }
+
+    public double eval(double x) {
+        final int n = knots.length;
+        if (x < knots[0] || x > knots[n - 1]) {
+            //TODO que devuelva una exception
+            return 0;
+        }
+        int i = segment(x);
+        double t = x - knots[i];
+        int c = i << 2;
+        return ((coefficients[c + 3] * t + coefficients[c + 2]) * t + coefficients[c + 1]) * t + coefficients[c];
+    }
+
+    private int segment(double x) {
+        int i = Knots.search(knots, x, cursor);
+        cursor = i;
+        return i;
+    }
+
+    private boolean outside(double x) {
+        return x < knots[0] || x > knots[knots.length - 1];
+    }
+
+    /**
+     * @return the first derivative of the spline, a piecewise quadratic
+     */
+    public OneVariableFunction derivative() {
+        return new OneVariableFunction() {
+            public double eval(double x) {
+                if (outside(x)) {
+                    return 0;
+                }
+                int i = segment(x);
+                double t = x - knots[i];
+                int c = i << 2;
+                return (3 * coefficients[c + 3] * t + 2 * coefficients[c + 2]) * t + coefficients[c + 1];
+            }
+        };
+    }
+
+    /**
+     * @return the second derivative of the spline, a piecewise linear function
+     */
+    public OneVariableFunction secondDerivative() {
+        return new OneVariableFunction() {
+            public double eval(double x) {
+                if (outside(x)) {
+                    return 0;
+                }
+                int i = segment(x);
+                double t = x - knots[i];
+                int c = i << 2;
+                return 6 * coefficients[c + 3] * t + 2 * coefficients[c + 2];
+            }
+        };
+    }
+
+    /**
+     * Definite integral of the spline, in O(log n)
+     * @param a starpoint
+     * @param b endpoint
+     * @return the integral of the spline from a to b
+     */
+    public double integral(double a, double b) {
+        return primitive(b) - primitive(a);
+    }
+
+    /**
+     * @return the function F(x), integral of the spline from the first knot to x
+     */
+    public OneVariableFunction cumulativeIntegral() {
         return new OneVariableFunction() {
-        	public double eval(double x){
-        		if(x<points.get(0).x || x>points.get(n-1).x) {
-        			//TODO que devuelva una exception
-        			return 0;
-        		}
-        		int i = 0;
-        		for(; i<points.size() - 1; i++) {
-        			if(x <= points.get(i + 1).x) break;
-        		}
-        		double constant3 = constants[i][3];
-        		double constant2 = constants[i][2];
-        		double constant1 = constants[i][1];
-        		double constant0 = constants[i][0];
-        		
-        		constant3 = constant3 * Math.pow(x - points.get(i).x, 3);
-        		constant2 = constant2 * Math.pow(x - points.get(i).x, 2);
-        		constant1 = constant1 * Math.pow(x - points.get(i).x, 1);
-        		constant0 = constant0 * Math.pow(x - points.get(i).x, 0);
-        		return  constant3 + constant2 + constant1 + constant0;
-        	}
+            public double eval(double x) {
+                return primitive(x);
+            }
         };
     }
-    
-    private static double[][] calculateConstant(final List<Point2d> points) {
-    	final int n = points.size();
+
+    /**
+     * Integral from the first knot to x, constant outside the knots
+     */
+    private double primitive(double x) {
+        double[] areas = areas();
+        final int n = knots.length;
+        if (x <= knots[0]) {
+            return 0;
+        }
+        if (x >= knots[n - 1]) {
+            return areas[n - 1];
+        }
+        int i = segment(x);
+        return areas[i] + segmentIntegral(i, x - knots[i]);
+    }
+
+    private double segmentIntegral(int i, double t) {
+        int c = i << 2;
+        return (((coefficients[c + 3] / 4 * t + coefficients[c + 2] / 3) * t + coefficients[c + 1] / 2) * t + coefficients[c]) * t;
+    }
+
+    private double[] areas() {
+        double[] areas = this.areas;
+        if (areas == null) {
+            areas = new double[knots.length];
+            for (int i = 0; i < knots.length - 1; i++) {
+                areas[i + 1] = areas[i] + segmentIntegral(i, knots[i + 1] - knots[i]);
+            }
+            this.areas = areas;
+        }
+        return areas;
+    }
+
+    public void eval(double[] xs, double[] out, int off, int len) {
+        final double[] knots = this.knots;
+        final double[] s = this.coefficients;
+        final double first = knots[0];
+        final double last = knots[knots.length - 1];
+        int i = cursor;
+        for (int k = off, end = off + len; k < end; k++) {
+            double x = xs[k];
+            if (x < first || x > last) {
+                out[k] = 0;
+                continue;
+            }
+            i = Knots.sweep(knots, x, i);
+            double t = x - knots[i];
+            int c = i << 2;
+            out[k] = ((s[c + 3] * t + s[c + 2]) * t + s[c + 1]) * t + s[c];
+        }
+        cursor = i;
+    }
+
+    private static double[] calculateConstant(double[] points, double[] values) {
+        final int n = points.length;
 
         double[] h = new double[n];
         double[] w = new double[n];
 
         for (int i = 0; i < n - 1; i++) {
-            h[i] = points.get(i + 1).x - points.get(i).x;
-            w[i] = 6 * (points.get(i + 1).y - points.get(i).y) / h[i];
+            h[i] = points[i + 1] - points[i];
+            w[i] = 6 * (values[i + 1] - values[i]) / h[i];
         }
 
         double[] x = solveTridiagonalSystem(n, h, w);
+        return calculateConstant(points, values, x);
+    }
 
-        double[][] s = new double[n - 1][4];
-        for (int i = 0; i < n - 1; i++) {
-            s[i][3] = (x[i + 1] - x[i]) / (6 * h[i]);
-            s[i][2] = x[i] / 2;
-            s[i][1] = -(h[i] * x[i]) / 3 - (h[i] * x[i + 1] / 6) + (points.get(i + 1).y - points.get(i).y) / h[i];
-            s[i][0] = points.get(i).y;
+    /**
+     * Coefficients of the segments given the second derivatives of the spline in the knots
+     */
+    private static double[] calculateConstant(double[] points, double[] values, double[] x) {
+        final int n = points.length;
+        double[] s = new double[(n - 1) << 2];
+        for (int i = 0, c = 0; i < n - 1; i++, c += 4) {
+            double h = points[i + 1] - points[i];
+            s[c + 3] = (x[i + 1] - x[i]) / (6 * h);
+            s[c + 2] = x[i] / 2;
+            s[c + 1] = -(h * x[i]) / 3 - (h * x[i + 1] / 6) + (values[i + 1] - values[i]) / h;
+            s[c] = values[i];
         }
         return s;
     }
 
     private static double[] solveTridiagonalSystem(int n, double[] h, double[] w) {
-        double[] a = new double[n];
+        double[] a = factorTridiagonalSystem(n, h);
         double[] b = new double[n];
         double[] c = new double[n];
 
-        a[1] = 2 * (h[1] + h[0]);
         b[1] = w[1] - w[0];
 
         for (int i = 2; i < n; i++) {
-            a[i] = 2 * (h[i] + h[i - 1]) - h[i - 1] * h[i - 1] / a[i - 1];
             b[i] = w[i] - w[i - 1] - h[i - 1] * b[i - 1] / a[i - 1];
         }
 
@@ -93,4 +286,22 @@ public class CubicSpline{
         return c;
     }
 
+    /**
+     * Elimination pivots of the spline system. They depend only on the distances between knots,
+     * so they can be shared by every spline with the same knots.
+     * @param n amount of knots
+     * @param h distances between knots, h[i] = x[i + 1] - x[i], with h[n - 1] = 0
+     * @return the pivots a[1], ..., a[n - 2]
+     */
+    static double[] factorTridiagonalSystem(int n, double[] h) {
+        double[] a = new double[n];
+
+        a[1] = 2 * (h[1] + h[0]);
+
+        for (int i = 2; i < n; i++) {
+            a[i] = 2 * (h[i] + h[i - 1]) - h[i - 1] * h[i - 1] / a[i - 1];
+        }
+        return a;
+    }
+
 }
@@ -0,0 +1,212 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+/**
+ * <p>A family of cubic splines that share the same knots, for example one spline per series sampled on
+ * a common time grid.</p>
+ *
+ * <p>The matrix of the spline system depends only on the knots, so it is factorized once and every series
+ * is solved with the same pivots. The right hand sides are kept knot by knot, with the series consecutive,
+ * so the elimination sweeps contiguous memory for all the series at once. Series can be solved in parallel
+ * on a {@link ForkJoinPool}.</p>
+ *
+ * <p>All the coefficients live in one block, segment by segment, so evaluating every series at the same x
+ * needs a single segment lookup. Evaluation outside the knots returns 0, like {@link CubicSpline}.</p>
+ */
+public class CubicSplineFamily {
+
+	/** Amount of knots times series under which a task is not split */
+	private static final int TASK_GRAIN = 1 << 15;
+
+	private final double[] knots;
+	private final int series;
+	/** Four coefficients per segment and series, at ((segment * series) + s) * 4 */
+	private final double[] coefficients;
+
+	private CubicSplineFamily(double[] knots, int series, double[] coefficients) {
+		this.knots = knots;
+		this.series = series;
+		this.coefficients = coefficients;
+	}
+
+	/**
+	 * Interpolates every series with the same knots.
+	 * @param x ascending x values of the knots, at least two
+	 * @param ys ys[s] are the y values of the series s in the knots
+	 * @return the family of splines
+	 */
+	public static CubicSplineFamily interpolate(double[] x, double[][] ys) {
+		return interpolate(x, ys, null);
+	}
+
+	/**
+	 * Interpolates every series with the same knots, splitting the series among the threads of the pool.
+	 * @param x ascending x values of the knots, at least two
+	 * @param ys ys[s] are the y values of the series s in the knots
+	 * @param pool pool that solves the series, or null to solve them in the calling thread
+	 * @return the family of splines
+	 */
+	public static CubicSplineFamily interpolate(double[] x, double[][] ys, ForkJoinPool pool) {
+		final int n = x.length;
+		final int series = ys.length;
+		for (int s = 0; s < series; s++) {
+			if (ys[s].length != n) {
+				throw new IllegalArgumentException("series " + s + ": " + ys[s].length + " != " + n);
+			}
+		}
+		double[] h = new double[n];
+		for (int i = 0; i < n - 1; i++) {
+			h[i] = x[i + 1] - x[i];
+		}
+		double[] pivots = CubicSpline.factorTridiagonalSystem(n, h);
+		double[] coefficients = new double[((n - 1) * series) << 2];
+		SolveTask task = new SolveTask(n, h, pivots, ys, coefficients, 0, series);
+		if (pool == null) {
+			task.solve();
+		} else {
+			pool.invoke(task);
+		}
+		return new CubicSplineFamily(x.clone(), series, coefficients);
+	}
+
+	/**
+	 * Solves the splines of the series [from, to). The right hand sides and the second derivatives share
+	 * one block, knot by knot, and are eliminated for all the series of the range together.
+	 */
+	private static final class SolveTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int n;
+		private final double[] h;
+		private final double[] pivots;
+		private final double[][] ys;
+		private final double[] coefficients;
+		private final int from;
+		private final int to;
+
+		SolveTask(int n, double[] h, double[] pivots, double[][] ys, double[] coefficients, int from, int to) {
+			this.n = n;
+			this.h = h;
+			this.pivots = pivots;
+			this.ys = ys;
+			this.coefficients = coefficients;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if ((long) (to - from) * n > TASK_GRAIN && to - from > 1) {
+				int middle = (from + to) >>> 1;
+				invokeAll(new SolveTask(n, h, pivots, ys, coefficients, from, middle),
+						new SolveTask(n, h, pivots, ys, coefficients, middle, to));
+				return;
+			}
+			solve();
+		}
+
+		private void solve() {
+			final int width = to - from;
+			final int total = coefficients.length / ((n - 1) << 2);
+			// m[i * width + s] is the right hand side, and then the second derivative, of the knot i
+			final double[] m = new double[n * width];
+			for (int i = 1; i < n - 1; i++) {
+				final double l = i > 1 ? h[i - 1] / pivots[i - 1] : 0;
+				final int row = i * width;
+				final int previous = row - width;
+				for (int s = 0; s < width; s++) {
+					final double[] y = ys[from + s];
+					double rhs = 6 * ((y[i + 1] - y[i]) / h[i] - (y[i] - y[i - 1]) / h[i - 1]);
+					m[row + s] = rhs - l * m[previous + s];
+				}
+			}
+			for (int i = n - 2; i > 0; i--) {
+				final double a = pivots[i];
+				final int row = i * width;
+				final int next = row + width;
+				for (int s = 0; s < width; s++) {
+					m[row + s] = (m[row + s] - h[i] * m[next + s]) / a;
+				}
+			}
+			for (int i = 0; i < n - 1; i++) {
+				final int row = i * width;
+				final int next = row + width;
+				final double hi = h[i];
+				for (int s = 0; s < width; s++) {
+					final double[] y = ys[from + s];
+					final double mi = m[row + s];
+					final double mj = m[next + s];
+					final int c = ((i * total) + from + s) << 2;
+					coefficients[c + 3] = (mj - mi) / (6 * hi);
+					coefficients[c + 2] = mi / 2;
+					coefficients[c + 1] = -(hi * mi) / 3 - (hi * mj / 6) + (y[i + 1] - y[i]) / hi;
+					coefficients[c] = y[i];
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return amount of splines of the family
+	 */
+	public int size() {
+		return series;
+	}
+
+	/**
+	 * Evaluates the spline of one series
+	 * @param s series
+	 * @param x value to be eval
+	 * @return value of the spline of the series s in x
+	 */
+	public double eval(int s, double x) {
+		final int n = knots.length;
+		if (x < knots[0] || x > knots[n - 1]) {
+			return 0;
+		}
+		int i = Knots.search(knots, x);
+		double t = x - knots[i];
+		int c = ((i * series) + s) << 2;
+		return ((coefficients[c + 3] * t + coefficients[c + 2]) * t + coefficients[c + 1]) * t + coefficients[c];
+	}
+
+	/**
+	 * Evaluates the splines of every series with a single segment lookup
+	 * @param x value to be eval
+	 * @param out out[s] is set to the value of the spline of the series s in x
+	 */
+	public void eval(double x, double[] out) {
+		final int n = knots.length;
+		if (x < knots[0] || x > knots[n - 1]) {
+			for (int s = 0; s < series; s++) {
+				out[s] = 0;
+			}
+			return;
+		}
+		int i = Knots.search(knots, x);
+		double t = x - knots[i];
+		for (int s = 0, c = (i * series) << 2; s < series; s++, c += 4) {
+			out[s] = ((coefficients[c + 3] * t + coefficients[c + 2]) * t + coefficients[c + 1]) * t + coefficients[c];
+		}
+	}
+
+	/**
+	 * @param s series
+	 * @return the spline of the series s, backed by the coefficients of the family
+	 */
+	public OneVariableFunction get(final int s) {
+		if (s < 0 || s >= series) {
+			throw new IndexOutOfBoundsException("" + s);
+		}
+		return new OneVariableFunction() {
+			public double eval(double x) {
+				return CubicSplineFamily.this.eval(s, x);
+			}
+		};
+	}
+}
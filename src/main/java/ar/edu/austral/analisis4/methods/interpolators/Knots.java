@@ -0,0 +1,115 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+/**
+ * Segment lookup over an ascending array of knots, shared by the interpolators.
+ * <p>Segment <code>i</code> is the interval <code>(knots[i], knots[i+1]]</code>; values at or before
+ * the first knot belong to segment 0 and values after the last knot to the last segment.</p>
+ */
+final class Knots {
+
+	/** Segments walked linearly by {@link #sweep(double[], double, int)} before switching to binary search */
+	private static final int SWEEP_STEPS = 8;
+	/** Tolerance on the position of each knot, relative to the spacing, for the knots to be considered equally spaced */
+	private static final double UNIFORM_TOLERANCE = 1e-9;
+	/** Ulps of the largest knot also tolerated, the rounding of first + i * step */
+	private static final int UNIFORM_ULPS = 4;
+
+	private Knots() {
+	}
+
+	/**
+	 * @param knots ascending knots (at least two)
+	 * @return true if the knots are equally spaced, up to rounding
+	 */
+	static boolean isUniform(double[] knots) {
+		final int n = knots.length;
+		final double first = knots[0];
+		final double step = (knots[n - 1] - first) / (n - 1);
+		final double tolerance = UNIFORM_TOLERANCE * step
+				+ UNIFORM_ULPS * Math.ulp(Math.max(Math.abs(first), Math.abs(knots[n - 1])));
+		if (!(step > 0)) {
+			return false;
+		}
+		for (int i = 1; i < n - 1; i++) {
+			if (Math.abs(knots[i] - (first + i * step)) > tolerance) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Binary search of the segment that contains x.
+	 * @param knots ascending knots (at least two)
+	 * @param x value to locate
+	 * @return segment index in [0, knots.length - 2]
+	 */
+	static int search(double[] knots, double x) {
+		return search(knots, x, 0, knots.length - 2);
+	}
+
+	/**
+	 * Binary search of the segment that contains x, among the segments lo to hi.
+	 * @param knots ascending knots
+	 * @param x value to locate
+	 * @param lo first segment
+	 * @param hi last segment
+	 * @return segment index in [lo, hi]
+	 */
+	static int search(double[] knots, double x, int lo, int hi) {
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (x <= knots[mid + 1]) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Same as {@link #search(double[], double)} but first tries the given segment and the next one,
+	 * so monotone sequences of queries are resolved in O(1).
+	 * @param knots ascending knots (at least two)
+	 * @param x value to locate
+	 * @param hint segment returned by a previous lookup
+	 * @return segment index in [0, knots.length - 2]
+	 */
+	static int search(double[] knots, double x, int hint) {
+		int last = knots.length - 2;
+		if (hint >= 0 && hint <= last) {
+			if (x <= knots[hint + 1]) {
+				if (hint == 0 || x > knots[hint]) {
+					return hint;
+				}
+			} else if (hint < last && (hint + 1 == last || x <= knots[hint + 2])) {
+				return hint + 1;
+			}
+		}
+		return search(knots, x);
+	}
+
+	/**
+	 * Lookup for sorted sweeps: walks forward a few segments from the previous one and only then
+	 * falls back to binary search, so an ascending sequence of m queries costs O(n + m) overall
+	 * and every single query is still O(log n).
+	 * @param knots ascending knots (at least two)
+	 * @param x value to locate
+	 * @param previous segment of the previous query
+	 * @return segment index in [0, knots.length - 2]
+	 */
+	static int sweep(double[] knots, double x, int previous) {
+		int last = knots.length - 2;
+		int i = previous;
+		if (x <= knots[i] && i > 0) {
+			return search(knots, x, 0, i - 1);
+		}
+		for (int steps = 0; i < last && x > knots[i + 1]; steps++, i++) {
+			if (steps == SWEEP_STEPS) {
+				return search(knots, x, i + 1, last);
+			}
+		}
+		return i;
+	}
+}
@@ -4,7 +4,7 @@ import java.util.List;
 
 import javax.vecmath.Point2d;
 
-import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.BulkOneVariableFunction;
 
 /**
  * <p>Linear interpolation is a method of curve fitting using linear polynomials.
@@ -21,32 +21,149 @@ import ar.edu.austral.analisis4.functions.OneVariableFunction;
  * <br>
  *
  * <img src="LinearInterpolation2.png"/>
+ *
+ * <p>When the points are equally spaced (detected by {@link #interpolate(double[], double[])} or
+ * declared with {@link #interpolateUniform(double, double, double[])}) the segment of x is found in O(1)
+ * by index arithmetic; otherwise it is found by binary search.</p>
  */
-public class LinearInterpolation {
+public class LinearInterpolation implements BulkOneVariableFunction {
+
+	/** Knots, null when they are equally spaced */
+	private final double[] knots;
+	private final double[] values;
+	/** slopes[i] is the slope of the segment between the knots i and i+1 */
+	private final double[] slopes;
+	/** First knot and spacing, only used when the knots are equally spaced */
+	private final double x0;
+	private final double step;
+	private final double inverseStep;
+	/** Last segment hit, only used as a search hint */
+	private int cursor;
+
+	private LinearInterpolation(double[] knots, double[] values) {
+		this.knots = knots;
+		this.values = values;
+		this.slopes = new double[knots.length - 1];
+		for (int i = 0; i < slopes.length; i++) {
+			slopes[i] = (values[i + 1] - values[i]) / (knots[i + 1] - knots[i]);
+		}
+		this.x0 = knots[0];
+		this.step = Double.NaN;
+		this.inverseStep = Double.NaN;
+	}
+
+	private LinearInterpolation(double x0, double step, double[] values) {
+		this.knots = null;
+		this.values = values;
+		this.slopes = new double[values.length - 1];
+		for (int i = 0; i < slopes.length; i++) {
+			slopes[i] = (values[i + 1] - values[i]) / step;
+		}
+		this.x0 = x0;
+		this.step = step;
+		this.inverseStep = 1 / step;
+	}
 
 	/**
 	 * Interpolates the function
 	 * @param points Set of point to be use
-	 * @return OneVariableFunction
+	 * @return the interpolation, a OneVariableFunction
+	 */
+	public static final LinearInterpolation interpolate(final List<Point2d> points) {
+		final int n = points.size();
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			Point2d point = points.get(i);
+			x[i] = point.x;
+			y[i] = point.y;
+		}
+		return create(x, y);
+	}
+
+	/**
+	 * Interpolates the function. If the x values are equally spaced the uniform grid lookup is used.
+	 * @param x ascending x values of the points
+	 * @param y y values of the points
+	 * @return the interpolation, a OneVariableFunction
+	 */
+	public static final LinearInterpolation interpolate(double[] x, double[] y) {
+		if (x.length != y.length) {
+			throw new IllegalArgumentException(x.length + " != " + y.length);
+		}
+		return create(x.clone(), y.clone());
+	}
+
+	/**
+	 * Interpolates a function sampled on a uniform grid: y[i] is the value in x0 + i * step.
+	 * @param x0 first x value
+	 * @param step distance between two consecutive x values, positive
+	 * @param y y values of the points
+	 * @return the interpolation, a OneVariableFunction
 	 */
-	public static final OneVariableFunction interpolate(final List<Point2d> points) {
-		return new OneVariableFunction() {
-			public double eval(double x) {
-				double w = 0;
-				if (x <= points.get(0).x)
-					w = points.get(0).y + (points.get(1).y - points.get(0).y) * (x - points.get(0).x) / (points.get(1).x - points.get(0).x);
-				if (x > points.get(0).x) {
-					int i = 0;
-					for (int k = 1; k < points.size(); k++) {
-						if (x - points.get(i).x > 0)
-							i++;
-					}
-					i--;
-					w = points.get(i).y + (points.get(i+1).y - points.get(i).y) * (x - points.get(i).x) / (points.get(i+1).x - points.get(i).x);
-				}
-				return w;
+	public static final LinearInterpolation interpolateUniform(double x0, double step, double[] y) {
+		if (!(step > 0) || y.length < 2) {
+			throw new IllegalArgumentException("step: " + step + ", points: " + y.length);
+		}
+		return new LinearInterpolation(x0, step, y.clone());
+	}
+
+	private static LinearInterpolation create(double[] x, double[] y) {
+		if (Knots.isUniform(x)) {
+			return new LinearInterpolation(x[0], (x[x.length - 1] - x[0]) / (x.length - 1), y);
+		}
+		return new LinearInterpolation(x, y);
+	}
+
+	/**
+	 * @return true if the segments are found by index arithmetic
+	 */
+	public boolean isUniform() {
+		return knots == null;
+	}
+
+	/**
+	 * Evaluates the interpolation. Values outside the points are extrapolated with the first or last segment.
+	 */
+	public double eval(double x) {
+		if (knots == null) {
+			int i = (int) ((x - x0) * inverseStep);
+			if (i < 0) {
+				i = 0;
+			} else if (i >= slopes.length) {
+				i = slopes.length - 1;
+			}
+			return values[i] + slopes[i] * (x - (x0 + i * step));
+		}
+		int i = Knots.search(knots, x, cursor);
+		cursor = i;
+		return values[i] + slopes[i] * (x - knots[i]);
+	}
+
+	public void eval(double[] xs, double[] out, int off, int len) {
+		final double[] values = this.values;
+		final double[] slopes = this.slopes;
+		if (knots == null) {
+			final int last = slopes.length - 1;
+			final double x0 = this.x0;
+			final double step = this.step;
+			final double inverseStep = this.inverseStep;
+			for (int k = off, end = off + len; k < end; k++) {
+				double x = xs[k];
+				int i = (int) ((x - x0) * inverseStep);
+				i = i < 0 ? 0 : (i > last ? last : i);
+				out[k] = values[i] + slopes[i] * (x - (x0 + i * step));
 			}
-		};
+			return;
+		}
+		final double[] knots = this.knots;
+		int i = cursor;
+		for (int k = off, end = off + len; k < end; k++) {
+			double x = xs[k];
+			i = Knots.sweep(knots, x, i);
+			out[k] = values[i] + slopes[i] * (x - knots[i]);
+		}
+		cursor = i;
 	}
 
 }
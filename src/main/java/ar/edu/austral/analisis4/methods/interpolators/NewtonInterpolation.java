@@ -1,52 +1,123 @@
 package ar.edu.austral.analisis4.methods.interpolators;
 
+import java.util.Arrays;
 import java.util.List;
 
 import javax.vecmath.Point2d;
 
-import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.BulkOneVariableFunction;
 
 /**
- * <p>Newton's interpolator is a polynomical interpolation that use the Newton Polynomial. polynomial interpolation 
+ * <p>Newton's interpolator is a polynomical interpolation that use the Newton Polynomial. polynomial interpolation
  * is the interpolation of a given data set by a polynomial: given some points, find a polynomial which goes exactly through these points.<p>
- * 
+ *
+ * <p>The nodes and the divided differences are kept in primitive arrays, so evaluating does not allocate.
+ * New points can be added with {@link #addPoint(double, double)} in O(N), without rebuilding the polynomial.
+ * The interpolation must not be evaluated from other threads while points are being added.</p>
  */
-public class NewtonInterpolation {
+public class NewtonInterpolation implements BulkOneVariableFunction {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private double[] nodes;
+	/** Newton coefficients: coefficients[i] = f[x0, ..., xi] */
+	private double[] coefficients;
+	/** Last diagonal of the divided differences table: diagonal[j] = f[x(n-1-j), ..., x(n-1)] */
+	private double[] diagonal;
+	private int size;
+
+	/**
+	 * Creates an empty interpolation, to be filled with {@link #addPoint(double, double)}
+	 */
+	public NewtonInterpolation() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty interpolation, to be filled with {@link #addPoint(double, double)}
+	 * @param capacity expected amount of points
+	 */
+	public NewtonInterpolation(int capacity) {
+		capacity = Math.max(capacity, 1);
+		nodes = new double[capacity];
+		coefficients = new double[capacity];
+		diagonal = new double[capacity];
+	}
 
 	/**
 	 * Interpolates the function
 	 * @param points Set of point to be use
-	 * @return OneVariableFunction
+	 * @return the interpolation, a OneVariableFunction
+	 */
+	public static final NewtonInterpolation interpolate(final List<Point2d> points) {
+		NewtonInterpolation interpolation = new NewtonInterpolation(points.size());
+		for (int i = 0; i < points.size(); i++)
+			interpolation.addPoint(points.get(i).x, points.get(i).y);
+		return interpolation;
+	}
+
+	/**
+	 * Adds a point to the interpolation, updating the coefficients in O(N).
+	 * @param x x value of the point, different from the x values already added
+	 * @param y y value of the point
 	 */
-	public static final OneVariableFunction interpolate(final List<Point2d> points) {
-		final double[] a = divDif(points);
-		return new OneVariableFunction() {
-			public double eval(double x) {
-				return horner(a, points).eval(x);
-			}
-		};
-	}
-
-	private static double[] divDif(List<Point2d> points) {
-		int N = points.size();
-		double[][] M = new double[N][N];
-		for (int i = 0; i < N; i++)
-			M[i][0] = (points.get(i).y);
-		for (int j = 1; j < N; j++)
-			for (int i = 0; i < N - j; i++)
-				M[i][j] = (M[i + 1][j - 1] - M[i][j - 1]) / (points.get(i + j).x - (points.get(i).x));
-		return M[0];
-	}
-
-	private static final OneVariableFunction horner(final double[] a, final List<Point2d> points) {
-		return new OneVariableFunction() {
-			public double eval(double x) {
-				int n = a.length;
-				double v = a[n - 1];
-				for (int i = 1; i < n; i++)
-					v = v * (x - points.get(n - 1 - i).x) + a[n - 1 - i];
-				return v;
-			}
-		};
+	public void addPoint(double x, double y) {
+		final int n = size;
+		for (int i = 0; i < n; i++)
+			if (x == nodes[i])
+				throw new IllegalArgumentException("Repeated node: " + x);
+		if (n == nodes.length) {
+			int capacity = n << 1;
+			nodes = Arrays.copyOf(nodes, capacity);
+			coefficients = Arrays.copyOf(coefficients, capacity);
+			diagonal = Arrays.copyOf(diagonal, capacity);
+		}
+		divDif(x, y);
+		nodes[n] = x;
+		coefficients[n] = diagonal[n];
+		size = n + 1;
+	}
+
+	/**
+	 * Extends the last diagonal of the divided differences table with the point (x, y).
+	 * Only O(N) values are kept instead of the whole table.
+	 */
+	private void divDif(double x, double y) {
+		final int n = size;
+		double previous = diagonal[0];
+		diagonal[0] = y;
+		for (int j = 1; j <= n; j++) {
+			double old = diagonal[j];
+			diagonal[j] = (diagonal[j - 1] - previous) / (x - nodes[n - j]);
+			previous = old;
+		}
+	}
+
+	/**
+	 * @return amount of points of the interpolation
+	 */
+	public int size() {
+		return size;
+	}
+
+	public double eval(double x) {
+		return horner(coefficients, nodes, size, x);
+	}
+
+	public void eval(double[] xs, double[] out, int off, int len) {
+		final double[] a = coefficients;
+		final double[] nodes = this.nodes;
+		final int n = size;
+		for (int k = off, end = off + len; k < end; k++)
+			out[k] = horner(a, nodes, n, xs[k]);
+	}
+
+	private static double horner(final double[] a, final double[] nodes, int n, double x) {
+		if (n == 0)
+			return 0;
+		double v = a[n - 1];
+		for (int i = n - 2; i >= 0; i--)
+			v = v * (x - nodes[i]) + a[i];
+		return v;
 	}
 }
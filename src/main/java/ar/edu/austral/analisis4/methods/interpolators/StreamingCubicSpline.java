@@ -0,0 +1,155 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import java.util.Arrays;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+/**
+ * <p>Cubic spline over a sliding window of a stream of samples. Knots are appended in ascending x order and,
+ * once the window is full, every new knot drops the oldest one.</p>
+ *
+ * <p>Appending a knot does not solve the whole tridiagonal system again: the influence of the new natural end
+ * on the second derivatives decays geometrically (roughly by 0.27 per knot), so only the last
+ * 24 second derivatives are recomputed, keeping the previous one fixed. Each append is O(1).
+ * Dropping a knot changes nothing else: the oldest knots keep the curvature they had in the stream.</p>
+ *
+ * <p>The object is itself a live view of the current spline. It must not be evaluated from other threads
+ * while knots are being appended; use {@link #snapshot()} to hand a fixed copy to them.</p>
+ */
+public class StreamingCubicSpline implements OneVariableFunction {
+
+	/** Amount of second derivatives recomputed on each append */
+	private static final int REFIT_KNOTS = 24;
+
+	private final int capacity;
+	/** Knots live in [start, start + size) of these arrays, which are twice the capacity to compact rarely */
+	private final double[] knots;
+	private final double[] values;
+	private final double[] secondDerivatives;
+	private int start;
+	private int size;
+	/** Scratch space of the local tridiagonal solve */
+	private final double[] diagonal = new double[REFIT_KNOTS];
+	private final double[] rhs = new double[REFIT_KNOTS];
+	/** Last segment hit, only used as a search hint */
+	private int cursor;
+
+	/**
+	 * @param capacity max amount of knots kept in the window, at least 2
+	 */
+	public StreamingCubicSpline(int capacity) {
+		if (capacity < 2) {
+			throw new IllegalArgumentException("" + capacity);
+		}
+		this.capacity = capacity;
+		this.knots = new double[capacity << 1];
+		this.values = new double[capacity << 1];
+		this.secondDerivatives = new double[capacity << 1];
+	}
+
+	/**
+	 * Appends a knot, dropping the oldest one if the window is full.
+	 * @param x x value, greater than the last appended one
+	 * @param y y value
+	 */
+	public void append(double x, double y) {
+		if (size > 0 && !(x > knots[start + size - 1])) {
+			throw new IllegalArgumentException(x + " <= " + knots[start + size - 1]);
+		}
+		if (size == capacity) {
+			start++;
+			size--;
+		}
+		if (start + size == knots.length) {
+			System.arraycopy(knots, start, knots, 0, size);
+			System.arraycopy(values, start, values, 0, size);
+			System.arraycopy(secondDerivatives, start, secondDerivatives, 0, size);
+			cursor = 0;
+			start = 0;
+		}
+		int end = start + size;
+		knots[end] = x;
+		values[end] = y;
+		secondDerivatives[end] = 0;
+		size++;
+		refit();
+	}
+
+	/**
+	 * Solves the spline equations of the last knots, with the second derivative before them fixed
+	 * and a natural end (second derivative 0) at the last knot.
+	 */
+	private void refit() {
+		final int last = start + size - 1;
+		final int first = Math.max(start + 1, last - REFIT_KNOTS);
+		final double[] x = knots;
+		final double[] y = values;
+		final double[] m = secondDerivatives;
+		for (int i = first, k = 0; i < last; i++, k++) {
+			double hl = x[i] - x[i - 1];
+			double hr = x[i + 1] - x[i];
+			double d = 2 * (hl + hr);
+			double r = 6 * ((y[i + 1] - y[i]) / hr - (y[i] - y[i - 1]) / hl);
+			if (k == 0) {
+				r -= hl * m[i - 1];
+			} else {
+				double factor = hl / diagonal[k - 1];
+				d -= factor * hl;
+				r -= factor * rhs[k - 1];
+			}
+			diagonal[k] = d;
+			rhs[k] = r;
+		}
+		for (int i = last - 1, k = last - 1 - first; i >= first; i--, k--) {
+			m[i] = (rhs[k] - (x[i + 1] - x[i]) * m[i + 1]) / diagonal[k];
+		}
+	}
+
+	/**
+	 * @return amount of knots in the window
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return max amount of knots kept in the window
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return an immutable copy of the current spline
+	 */
+	public CubicSpline snapshot() {
+		if (size < 2) {
+			throw new IllegalStateException("At least two knots are needed: " + size);
+		}
+		int end = start + size;
+		return CubicSpline.create(Arrays.copyOfRange(knots, start, end), Arrays.copyOfRange(values, start, end),
+				Arrays.copyOfRange(secondDerivatives, start, end));
+	}
+
+	/**
+	 * Evaluates the current spline, 0 outside the window like {@link CubicSpline}
+	 */
+	public double eval(double x) {
+		if (size < 2 || x < knots[start] || x > knots[start + size - 1]) {
+			return 0;
+		}
+		final int lo = start;
+		final int hi = start + size - 2;
+		int i = cursor;
+		if (i < lo || i > hi || x > knots[i + 1] || (x <= knots[i] && i > lo)) {
+			i = Knots.search(knots, x, lo, hi);
+			cursor = i;
+		}
+		final double h = knots[i + 1] - knots[i];
+		final double mi = secondDerivatives[i];
+		final double mj = secondDerivatives[i + 1];
+		final double t = x - knots[i];
+		final double s1 = (values[i + 1] - values[i]) / h - h * (2 * mi + mj) / 6;
+		return ((((mj - mi) / (6 * h)) * t + mi / 2) * t + s1) * t + values[i];
+	}
+}
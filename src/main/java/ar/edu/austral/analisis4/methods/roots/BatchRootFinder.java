@@ -0,0 +1,272 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import ar.edu.austral.analisis4.functions.ParameterizedFunction;
+
+/**
+ * <p>Solves many root finding problems of the same shape at once: lane i finds a root of
+ * f(x, parameters[i]) = 0. Each lane follows exactly the same steps as {@link Bisection} or
+ * {@link NewtonRaphson}, so it finds the same root, but failures are reported as a {@link RootStatus}
+ * instead of an exception.</p>
+ *
+ * <p>The state of the lanes is kept in primitive arrays (structure of arrays) and every iteration sweeps
+ * the lanes that are still active; lanes that converge or fail drop out of the sweep. Lanes can be split in
+ * blocks solved in parallel on a {@link ForkJoinPool}.</p>
+ */
+public class BatchRootFinder {
+
+	/** Lanes solved by a single task */
+	private static final int LANES_PER_TASK = 1024;
+
+	private BatchRootFinder() {
+	}
+
+	/**
+	 * Bisection of every lane in the calling thread.
+	 * @see #bisection(ParameterizedFunction, double[], double[], double[], double, int, ForkJoinPool)
+	 */
+	public static BatchRootResult bisection(ParameterizedFunction f, double[] parameters, double[] a, double[] b,
+			double error, int iterations) {
+		return bisection(f, parameters, a, b, error, iterations, null);
+	}
+
+	/**
+	 * @param f family of functions
+	 * @param parameters parameter of each lane
+	 * @param a left value of each lane
+	 * @param b right value of each lane
+	 * @param error tolerated error level
+	 * @param iterations max number of iterations
+	 * @param pool pool that solves the lanes, or null to solve them in the calling thread
+	 * @return roots, iterations and status of every lane
+	 */
+	public static BatchRootResult bisection(ParameterizedFunction f, double[] parameters, double[] a, double[] b,
+			double error, int iterations, ForkJoinPool pool) {
+		checkLanes(parameters, a);
+		checkLanes(parameters, b);
+		BatchRootResult result = new BatchRootResult(parameters.length);
+		run(new BisectionTask(f, parameters, a, b, error, iterations, result, 0, parameters.length), pool);
+		return result;
+	}
+
+	/**
+	 * Newton-Raphson of every lane in the calling thread.
+	 * @see #newtonRaphson(ParameterizedFunction, ParameterizedFunction, double[], double[], double, int, ForkJoinPool)
+	 */
+	public static BatchRootResult newtonRaphson(ParameterizedFunction f, ParameterizedFunction fderived,
+			double[] parameters, double[] p0, double error, int maxIterations) {
+		return newtonRaphson(f, fderived, parameters, p0, error, maxIterations, null);
+	}
+
+	/**
+	 * @param f family of functions
+	 * @param fderived derived functions of the family
+	 * @param parameters parameter of each lane
+	 * @param p0 point of start of each lane
+	 * @param error tolerated error level
+	 * @param maxIterations max number of iterations
+	 * @param pool pool that solves the lanes, or null to solve them in the calling thread
+	 * @return roots, iterations and status of every lane
+	 */
+	public static BatchRootResult newtonRaphson(ParameterizedFunction f, ParameterizedFunction fderived,
+			double[] parameters, double[] p0, double error, int maxIterations, ForkJoinPool pool) {
+		checkLanes(parameters, p0);
+		BatchRootResult result = new BatchRootResult(parameters.length);
+		run(new NewtonTask(f, fderived, parameters, p0, error, maxIterations, result, 0, parameters.length), pool);
+		return result;
+	}
+
+	private static void checkLanes(double[] parameters, double[] values) {
+		if (parameters.length != values.length) {
+			throw new IllegalArgumentException(parameters.length + " != " + values.length);
+		}
+	}
+
+	private static void run(LanesTask task, ForkJoinPool pool) {
+		if (pool == null) {
+			task.solve();
+		} else {
+			pool.invoke(task);
+		}
+	}
+
+	/**
+	 * Lanes [from, to) of a batch, split in halves until they fit in a single task
+	 */
+	private abstract static class LanesTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		final int from;
+		final int to;
+
+		LanesTask(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from > LANES_PER_TASK) {
+				int middle = (from + to) >>> 1;
+				invokeAll(split(from, middle), split(middle, to));
+			} else {
+				solve();
+			}
+		}
+
+		abstract LanesTask split(int from, int to);
+
+		abstract void solve();
+	}
+
+	private static final class BisectionTask extends LanesTask {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ParameterizedFunction f;
+		private final double[] parameters;
+		private final double[] a;
+		private final double[] b;
+		private final double error;
+		private final int iterations;
+		private final BatchRootResult result;
+
+		BisectionTask(ParameterizedFunction f, double[] parameters, double[] a, double[] b, double error,
+				int iterations, BatchRootResult result, int from, int to) {
+			super(from, to);
+			this.f = f;
+			this.parameters = parameters;
+			this.a = a;
+			this.b = b;
+			this.error = error;
+			this.iterations = iterations;
+			this.result = result;
+		}
+
+		@Override
+		LanesTask split(int from, int to) {
+			return new BisectionTask(f, parameters, a, b, error, iterations, result, from, to);
+		}
+
+		@Override
+		void solve() {
+			final int n = to - from;
+			final double[] left = new double[n];
+			final double[] right = new double[n];
+			final double[] fLeft = new double[n];
+			final int[] active = new int[n];
+			final double[] roots = result.roots();
+			final int[] status = result.status();
+			final int[] used = result.iterations();
+			for (int k = 0; k < n; k++) {
+				left[k] = a[from + k];
+				right[k] = b[from + k];
+				fLeft[k] = f.eval(left[k], parameters[from + k]);
+				active[k] = k;
+			}
+			int count = n;
+			int i = 1;
+			while (i <= iterations && count > 0) {
+				int remaining = 0;
+				for (int s = 0; s < count; s++) {
+					final int k = active[s];
+					double p = left[k] + (right[k] - left[k]) / 2; //middle point of the interval
+					double fp = f.eval(p, parameters[from + k]);
+					roots[from + k] = p;
+					if (fp == 0 || (right[k] - left[k]) / 2 < error) {
+						status[from + k] = RootStatus.CONVERGED;
+						used[from + k] = i;
+						continue;
+					}
+					if (fLeft[k] * fp > 0) {
+						left[k] = p;
+						fLeft[k] = fp;
+					} else {
+						right[k] = p;
+					}
+					active[remaining++] = k;
+				}
+				count = remaining;
+				i++;
+			}
+			for (int s = 0; s < count; s++) {
+				status[from + active[s]] = RootStatus.MAX_ITERATIONS;
+				used[from + active[s]] = i - 1;
+			}
+		}
+	}
+
+	private static final class NewtonTask extends LanesTask {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ParameterizedFunction f;
+		private final ParameterizedFunction fderived;
+		private final double[] parameters;
+		private final double[] p0;
+		private final double error;
+		private final int maxIterations;
+		private final BatchRootResult result;
+
+		NewtonTask(ParameterizedFunction f, ParameterizedFunction fderived, double[] parameters, double[] p0,
+				double error, int maxIterations, BatchRootResult result, int from, int to) {
+			super(from, to);
+			this.f = f;
+			this.fderived = fderived;
+			this.parameters = parameters;
+			this.p0 = p0;
+			this.error = error;
+			this.maxIterations = maxIterations;
+			this.result = result;
+		}
+
+		@Override
+		LanesTask split(int from, int to) {
+			return new NewtonTask(f, fderived, parameters, p0, error, maxIterations, result, from, to);
+		}
+
+		@Override
+		void solve() {
+			final int n = to - from;
+			final int[] active = new int[n];
+			final double[] roots = result.roots();
+			final int[] status = result.status();
+			final int[] used = result.iterations();
+			for (int k = 0; k < n; k++) {
+				roots[from + k] = p0[from + k];
+				active[k] = k;
+			}
+			int count = n;
+			int iterations = 1;
+			while (iterations < maxIterations && count > 0) {
+				int remaining = 0;
+				for (int s = 0; s < count; s++) {
+					final int lane = from + active[s];
+					final double parameter = parameters[lane];
+					double p = roots[lane];
+					//Xn+1 = Xn - f(x) / f'(x)
+					double p1 = p - f.eval(p, parameter) / fderived.eval(p, parameter);
+					roots[lane] = p1;
+					if (Double.isNaN(p1) || Double.isInfinite(p1)) {
+						status[lane] = RootStatus.DIVERGED;
+						used[lane] = iterations;
+					} else if (Math.abs(f.eval(p1, parameter)) < error) {
+						status[lane] = RootStatus.CONVERGED;
+						used[lane] = iterations;
+					} else {
+						active[remaining++] = active[s];
+					}
+				}
+				count = remaining;
+				iterations++;
+			}
+			for (int s = 0; s < count; s++) {
+				status[from + active[s]] = RootStatus.MAX_ITERATIONS;
+				used[from + active[s]] = iterations - 1;
+			}
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+/**
+ * Per-lane results of {@link BatchRootFinder}: lane i holds the root of the i-th problem of the batch,
+ * the iterations it took and its {@link RootStatus}. The arrays are returned as they are, not copied.
+ */
+public final class BatchRootResult {
+
+	private final double[] roots;
+	private final int[] iterations;
+	private final int[] status;
+
+	BatchRootResult(int lanes) {
+		this.roots = new double[lanes];
+		this.iterations = new int[lanes];
+		this.status = new int[lanes];
+	}
+
+	/**
+	 * @return amount of lanes
+	 */
+	public int size() {
+		return roots.length;
+	}
+
+	/**
+	 * @return the root of each lane, the last approximation when it did not converge
+	 */
+	public double[] roots() {
+		return roots;
+	}
+
+	/**
+	 * @return the iterations used by each lane
+	 */
+	public int[] iterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return the {@link RootStatus} of each lane
+	 */
+	public int[] status() {
+		return status;
+	}
+
+	/**
+	 * @return true if every lane converged
+	 */
+	public boolean allConverged() {
+		for (int i = 0; i < status.length; i++) {
+			if (status[i] != RootStatus.CONVERGED) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -36,17 +36,39 @@ public class Bisection {
 
 	public static double findRoot(OneVariableFunction f, double a, double b, double error, int iterations)
 			throws RootNotFoundException {
+		RootResult result = new RootResult();
+		if (solve(f, a, b, error, iterations, result) != RootStatus.CONVERGED) {
+			throw new RootNotFoundException(METHOD_NAME);
+		}
+		return result.root();
+	}
+
+	/**
+	 * Takes the same steps as {@link #findRoot(OneVariableFunction, double, double, double, int)}, but
+	 * reports a failure as a {@link RootStatus} instead of throwing an exception.
+	 * @param f Function
+	 * @param a left value
+	 * @param b right value
+	 * @param error tolerated error level
+	 * @param iterations max number of iterations
+	 * @param result where the root, the iterations, the residual, the status and the evaluations are written
+	 * @return the {@link RootStatus} of the solve
+	 */
+	public static int solve(OneVariableFunction f, double a, double b, double error, int iterations,
+			RootResult result) {
 
 		int i = 1;
 		double fa = f.eval(a); // f evaluated in a
+		double p = a;
+		double fp = fa;
 
 		while (i <= iterations) {
-			double p = a + (b - a) / 2; //middle point of the interval
-			double fp = f.eval(p); //f evaluated in p
+			p = a + (b - a) / 2; //middle point of the interval
+			fp = f.eval(p); //f evaluated in p
 
 			//if fp is root OR the interval is smaller than the tolerated error
 			if (fp == 0 || (b - a) / 2 < error) {
-				return p;
+				return result.set(p, i, fp, RootStatus.CONVERGED, 1 + i);
 			}
 
 			i += 1;
@@ -59,6 +81,6 @@ public class Bisection {
 				b = p;
 			}
 		}
-		throw new RootNotFoundException(METHOD_NAME);
+		return result.set(p, i - 1, fp, RootStatus.MAX_ITERATIONS, i);
 	}
 }
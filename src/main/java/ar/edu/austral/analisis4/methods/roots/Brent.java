@@ -0,0 +1,138 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import ar.edu.austral.analisis4.exceptions.RootNotFoundException;
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+/**
+ * <p><b>Brent's method</b> is a root-finding algorithm combining the bisection method, the secant method 
+ * and inverse quadratic interpolation. Like {@link Bisection} it keeps the root bracketed in an interval 
+ * [a, b] where f changes sign, so it always converges, but whenever the interpolation steps behave well 
+ * it converges superlinearly. It usually needs several times fewer evaluations of f than bisection,
+ * which matters when f is expensive.</p>
+ * <br>
+ * <p>{@link RootResult#evaluations()} tells how many evaluations were needed: 2 to check the bracket
+ * plus one per iteration after the first.</p>
+ */
+public class Brent {
+
+	private static final String METHOD_NAME = "Brent Method";
+
+	/** Relative machine precision */
+	private static final double EPSILON = Math.ulp(1.0);
+
+	/**
+	 * @param f Function
+	 * @param a left value
+	 * @param b right value
+	 * @param error tolerated error level
+	 * @param iterations max number of iterations
+	 * @return the root of the function
+	 * @throws RootNotFoundException in case f(a) and f(b) have the same sign or the root was not found
+	 * in the given iterations.
+	 */
+	public static double findRoot(OneVariableFunction f, double a, double b, double error, int iterations)
+			throws RootNotFoundException {
+		RootResult result = new RootResult();
+		if (solve(f, a, b, error, iterations, result) != RootStatus.CONVERGED) {
+			throw new RootNotFoundException(METHOD_NAME);
+		}
+		return result.root();
+	}
+
+	/**
+	 * Takes the same steps as {@link #findRoot(OneVariableFunction, double, double, double, int)}, but
+	 * reports a failure as a {@link RootStatus} instead of throwing an exception.
+	 * @param f Function
+	 * @param a left value
+	 * @param b right value
+	 * @param error tolerated error level
+	 * @param iterations max number of iterations
+	 * @param result where the root, the iterations, the residual, the status and the evaluations are written
+	 * @return the {@link RootStatus} of the solve, {@link RootStatus#NO_BRACKET} if f(a) and f(b) have
+	 * the same sign
+	 */
+	public static int solve(OneVariableFunction f, double a, double b, double error, int iterations,
+			RootResult result) {
+		return solve(f, a, b, f.eval(a), f.eval(b), 2, error, iterations, result);
+	}
+
+	/**
+	 * Same as {@link #solve(OneVariableFunction, double, double, double, int, RootResult)} when f(a)
+	 * and f(b) are already known, so they are not evaluated again
+	 * @param fa f(a)
+	 * @param fb f(b)
+	 * @param evaluations evaluations of f already spent, added to the ones of the solve
+	 */
+	static int solve(OneVariableFunction f, double a, double b, double fa, double fb, long evaluations,
+			double error, int iterations, RootResult result) {
+		if ((fa > 0 && fb > 0) || (fa < 0 && fb < 0)) {
+			return result.set(b, 0, fb, RootStatus.NO_BRACKET, evaluations);
+		}
+		// the root is always between b (the best approximation) and c
+		double c = b;
+		double fc = fb;
+		double d = b - a; // last step
+		double e = d; // step before the last one
+
+		for (int i = 1; i <= iterations; i++) {
+			if ((fb > 0 && fc > 0) || (fb < 0 && fc < 0)) {
+				c = a;
+				fc = fa;
+				d = b - a;
+				e = d;
+			}
+			if (Math.abs(fc) < Math.abs(fb)) {
+				a = b;
+				b = c;
+				c = a;
+				fa = fb;
+				fb = fc;
+				fc = fa;
+			}
+			double tolerance = 2 * EPSILON * Math.abs(b) + error / 2;
+			double middle = (c - b) / 2;
+
+			//if fb is root OR the interval is smaller than the tolerated error
+			if (fb == 0 || Math.abs(middle) <= tolerance) {
+				return result.set(b, i, fb, RootStatus.CONVERGED, evaluations + i - 1);
+			}
+
+			if (Math.abs(e) >= tolerance && Math.abs(fa) > Math.abs(fb)) {
+				// secant (a == c) or inverse quadratic interpolation
+				double p;
+				double q;
+				double s = fb / fa;
+				if (a == c) {
+					p = 2 * middle * s;
+					q = 1 - s;
+				} else {
+					double r = fb / fc;
+					q = fa / fc;
+					p = s * (2 * middle * q * (q - r) - (b - a) * (r - 1));
+					q = (q - 1) * (r - 1) * (s - 1);
+				}
+				if (p > 0) {
+					q = -q;
+				} else {
+					p = -p;
+				}
+				// accept the interpolation only if it falls well inside the bracket and is shrinking fast
+				if (2 * p < Math.min(3 * middle * q - Math.abs(tolerance * q), Math.abs(e * q))) {
+					e = d;
+					d = p / q;
+				} else {
+					d = middle;
+					e = d;
+				}
+			} else {
+				d = middle;
+				e = d;
+			}
+			a = b;
+			fa = fb;
+			b += Math.abs(d) > tolerance ? d : Math.copySign(tolerance, middle);
+			fb = f.eval(b);
+		}
+		return result.set(b, iterations, fb, RootStatus.MAX_ITERATIONS, evaluations + iterations);
+	}
+}
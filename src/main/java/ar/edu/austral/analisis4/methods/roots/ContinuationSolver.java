@@ -0,0 +1,153 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.ParameterizedFunction;
+
+/**
+ * <p>Follows the root of f(x, parameter) = 0 along a sequence of slowly varying parameters. Instead of
+ * starting every solve cold, the root of each step is predicted by extrapolating the roots of the last
+ * steps (a polynomial in the parameter through up to the last 4 roots) and corrected with
+ * Newton-Raphson, which then usually needs one or two iterations.</p>
+ *
+ * <p>When Newton leaves the interval [a, b] or does not converge, the step falls back to {@link Brent}:
+ * a bracket is searched around the predicted root, doubling its width until f changes sign or it covers
+ * [a, b]. The extrapolation restarts after a failed step. Like {@link BatchRootFinder}, each step of the
+ * sequence is reported as a lane of a {@link BatchRootResult}, with the iterations of Newton and Brent
+ * together.</p>
+ */
+public class ContinuationSolver {
+
+	/** Max amount of previous roots used by the extrapolation */
+	private static final int HISTORY = 4;
+
+	private ContinuationSolver() {
+	}
+
+	/**
+	 * @param f family of functions
+	 * @param fderived derived functions of the family, with respect to x
+	 * @param parameters sequence of parameters
+	 * @param x0 point of start of the first parameter
+	 * @param a left end of the interval where the roots are looked for
+	 * @param b right end of the interval where the roots are looked for
+	 * @param error tolerated error level
+	 * @param maxIterations max number of iterations of Newton and of Brent in each step
+	 * @return roots, iterations and status of every step
+	 */
+	public static BatchRootResult solve(ParameterizedFunction f, ParameterizedFunction fderived, double[] parameters,
+			double x0, double a, double b, double error, int maxIterations) {
+		if (b < a) {
+			throw new IllegalArgumentException(a + " > " + b);
+		}
+		final BatchRootResult result = new BatchRootResult(parameters.length);
+		final double[] roots = result.roots();
+		final int[] used = result.iterations();
+		final int[] status = result.status();
+		final RootResult bracketed = new RootResult();
+		final Section section = new Section(f);
+		int known = 0; // consecutive roots found right before the current step
+		for (int i = 0; i < parameters.length; i++) {
+			final double parameter = parameters[i];
+			double prediction = Math.min(Math.max(predict(parameters, roots, i, known, x0), a), b);
+			double p = prediction;
+			double fp = f.eval(p, parameter);
+			int iterations = 0;
+			int state = RootStatus.MAX_ITERATIONS;
+			while (true) {
+				if (Math.abs(fp) < error) {
+					state = RootStatus.CONVERGED;
+					break;
+				}
+				if (iterations >= maxIterations) {
+					break;
+				}
+				iterations++;
+				//Xn+1 = Xn - f(x) / f'(x)
+				double p1 = p - fp / fderived.eval(p, parameter);
+				if (!(p1 >= a && p1 <= b)) {
+					state = RootStatus.DIVERGED;
+					break;
+				}
+				p = p1;
+				fp = f.eval(p, parameter);
+			}
+			if (state != RootStatus.CONVERGED) {
+				section.parameter = parameter;
+				double width = known >= 2 ? Math.abs(roots[i - 1] - roots[i - 2]) : (b - a) / 64;
+				state = bracket(section, prediction, Math.max(width, error), a, b, error, maxIterations, bracketed);
+				iterations += bracketed.iterations();
+				p = bracketed.root();
+			}
+			roots[i] = p;
+			used[i] = iterations;
+			status[i] = state;
+			known = state == RootStatus.CONVERGED ? Math.min(known + 1, HISTORY) : 0;
+		}
+		return result;
+	}
+
+	/**
+	 * Extrapolates the last known roots to the parameter of the step i with their Lagrange polynomial
+	 */
+	private static double predict(double[] parameters, double[] roots, int i, int known, double x0) {
+		if (known == 0) {
+			return x0;
+		}
+		final double t = parameters[i];
+		double prediction = 0;
+		for (int j = i - known; j < i; j++) {
+			double weight = 1;
+			for (int k = i - known; k < i; k++) {
+				if (k != j) {
+					weight *= (t - parameters[k]) / (parameters[j] - parameters[k]);
+				}
+			}
+			prediction += weight * roots[j];
+		}
+		return Double.isNaN(prediction) || Double.isInfinite(prediction) ? roots[i - 1] : prediction;
+	}
+
+	/**
+	 * Searches a bracket around the center, doubling its width, and refines it with Brent. The
+	 * evaluations of the search are counted in the result
+	 */
+	private static int bracket(OneVariableFunction f, double center, double width, double a, double b, double error,
+			int maxIterations, RootResult result) {
+		if (!(width > 0)) {
+			width = (b - a) / 64;
+		}
+		long evaluations = 0;
+		while (true) {
+			double lo = Math.max(a, center - width);
+			double hi = Math.min(b, center + width);
+			double flo = f.eval(lo);
+			double fhi = f.eval(hi);
+			evaluations += 2;
+			if ((flo <= 0 && fhi >= 0) || (flo >= 0 && fhi <= 0)) {
+				return Brent.solve(f, lo, hi, flo, fhi, evaluations, error, maxIterations, result);
+			}
+			if (lo == a && hi == b) {
+				boolean left = Math.abs(flo) < Math.abs(fhi);
+				return result.set(left ? lo : hi, 0, left ? flo : fhi, RootStatus.NO_BRACKET, evaluations);
+			}
+			width *= 2;
+		}
+	}
+
+	/**
+	 * The function of a single parameter of the family
+	 */
+	private static final class Section implements OneVariableFunction {
+
+		private final ParameterizedFunction f;
+		double parameter;
+
+		Section(ParameterizedFunction f) {
+			this.f = f;
+		}
+
+		public double eval(double x) {
+			return f.eval(x, parameter);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+/**
+ * LU decomposition with partial pivoting of a dense row-major n x n matrix, done in place: after
+ * {@link #decompose(double[], int, int[])} the matrix holds U in and above the diagonal and the
+ * multipliers of L (whose diagonal is 1) below it.
+ */
+final class DenseLU {
+
+	private DenseLU() {
+	}
+
+	/**
+	 * @param a row-major matrix, overwritten with its decomposition
+	 * @param n size of the matrix
+	 * @param pivots pivots[k] is set to the row swapped with the row k
+	 * @return false if the matrix is singular
+	 */
+	static boolean decompose(double[] a, int n, int[] pivots) {
+		for (int k = 0; k < n; k++) {
+			int pivot = k;
+			double max = Math.abs(a[k * n + k]);
+			for (int i = k + 1; i < n; i++) {
+				double value = Math.abs(a[i * n + k]);
+				if (value > max) {
+					max = value;
+					pivot = i;
+				}
+			}
+			pivots[k] = pivot;
+			if (max == 0 || Double.isNaN(max)) {
+				return false;
+			}
+			if (pivot != k) {
+				for (int j = 0, r = k * n, p = pivot * n; j < n; j++) {
+					double t = a[r + j];
+					a[r + j] = a[p + j];
+					a[p + j] = t;
+				}
+			}
+			final int row = k * n;
+			final double diagonal = a[row + k];
+			for (int i = k + 1; i < n; i++) {
+				final int other = i * n;
+				final double l = a[other + k] / diagonal;
+				a[other + k] = l;
+				if (l != 0) {
+					for (int j = k + 1; j < n; j++) {
+						a[other + j] -= l * a[row + j];
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Solves A x = b with the decomposition of A.
+	 * @param lu decomposition of A
+	 * @param n size of the matrix
+	 * @param pivots pivots of the decomposition
+	 * @param b right hand side, overwritten with the solution
+	 */
+	static void solve(double[] lu, int n, int[] pivots, double[] b) {
+		for (int k = 0; k < n; k++) {
+			int p = pivots[k];
+			if (p != k) {
+				double t = b[k];
+				b[k] = b[p];
+				b[p] = t;
+			}
+		}
+		for (int i = 1; i < n; i++) {
+			double sum = b[i];
+			for (int j = 0, row = i * n; j < i; j++) {
+				sum -= lu[row + j] * b[j];
+			}
+			b[i] = sum;
+		}
+		for (int i = n - 1; i >= 0; i--) {
+			final int row = i * n;
+			double sum = b[i];
+			for (int j = i + 1; j < n; j++) {
+				sum -= lu[row + j] * b[j];
+			}
+			b[i] = sum / lu[row + i];
+		}
+	}
+}
@@ -1,6 +1,9 @@
 package ar.edu.austral.analisis4.methods.roots;
 
 import ar.edu.austral.analisis4.exceptions.RootNotFoundException;
+import ar.edu.austral.analisis4.functions.DifferentiableFunction;
+import ar.edu.austral.analisis4.functions.DualFunction;
+import ar.edu.austral.analisis4.functions.Dual;
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
 
 /**
@@ -38,12 +41,75 @@ public class NewtonRaphson{
      */
     public static double findRoot(OneVariableFunction f, OneVariableFunction fderived, double p0, double error, int maxIterations)
             throws RootNotFoundException {
+        RootResult result = new RootResult();
+        if (solve(f, fderived, p0, error, maxIterations, result) != RootStatus.CONVERGED) {
+            throw new RootNotFoundException(METHOD_NAME);
+        }
+        return result.root();
+    }
+
+    /**
+     * Takes the same steps as {@link #findRoot(OneVariableFunction, OneVariableFunction, double, double, int)},
+     * but reports a failure as a {@link RootStatus} instead of throwing an exception. A step that is not a
+     * finite number, for example because the derivative is 0, stops with {@link RootStatus#DIVERGED}.
+     * @param f function
+     * @param fderived derived function
+     * @param p0 point of start
+     * @param error tolerated error level
+     * @param maxIterations max number of iterations
+     * @param result where the root, the iterations, the residual, the status and the evaluations are written
+     * @return the {@link RootStatus} of the solve
+     */
+    public static int solve(OneVariableFunction f, OneVariableFunction fderived, double p0, double error,
+            int maxIterations, RootResult result) {
         int iterations = 1;
         double p = p0;
+        double fp = f.eval(p);
         while (iterations < maxIterations) {
             //Xn+1 = Xn - f(x) / f'(x)
-            double p1 = p - f.eval(p) / fderived.eval(p);
-            if (Math.abs(f.eval(p1)) < error) {
+            double p1 = p - fp / fderived.eval(p);
+            if (Double.isNaN(p1) || Double.isInfinite(p1)) {
+                return result.set(p, iterations, fp, RootStatus.DIVERGED, iterations);
+            }
+            double fp1 = f.eval(p1);
+            if (Math.abs(fp1) < error) {
+                return result.set(p1, iterations, fp1, RootStatus.CONVERGED, iterations + 1);
+            }
+            p = p1;
+            fp = fp1;
+            iterations++;
+        }
+        return result.set(p, iterations - 1, fp, RootStatus.MAX_ITERATIONS, iterations);
+    }
+
+    /**
+     * Newton-Raphson with a function that evaluates its value and derivative together. Each iteration
+     * evaluates f once: the value in the new point is used for the convergence test and its derivative
+     * for the next step. Takes the same steps as {@link #findRoot(OneVariableFunction, OneVariableFunction, double, double, int)}.
+     * The only allocation is the array f writes into; {@link #solve(DifferentiableFunction, double, double, int, RootResult)}
+     * with a reused result allocates nothing.
+     * @param f function and derived function
+     * @param p0 point of start
+     * @param error tolerated error level
+     * @param maxIterations max number of iterations
+     * @return the root of the function
+     * @throws RootNotFoundException in case there is no root or the function does not apply
+	 * the minimum requirements.
+     */
+    public static double findRoot(DifferentiableFunction f, double p0, double error, int maxIterations)
+            throws RootNotFoundException {
+        double[] value = new double[2];
+        f.eval(p0, value);
+        int iterations = 1;
+        double p = p0;
+        while (iterations < maxIterations) {
+            //Xn+1 = Xn - f(x) / f'(x)
+            double p1 = p - value[0] / value[1];
+            if (Double.isNaN(p1) || Double.isInfinite(p1)) {
+                break;
+            }
+            f.eval(p1, value);
+            if (Math.abs(value[0]) < error) {
                 return p1;
             }
             p = p1;
@@ -51,4 +117,88 @@ public class NewtonRaphson{
         }
         throw new RootNotFoundException(METHOD_NAME);
     }
+
+    /**
+     * Takes the same steps as {@link #findRoot(DifferentiableFunction, double, double, int)}, but reports a
+     * failure as a {@link RootStatus} instead of throwing an exception.
+     * @param f function and derived function
+     * @param p0 point of start
+     * @param error tolerated error level
+     * @param maxIterations max number of iterations
+     * @param result where the root, the iterations, the residual, the status and the evaluations are written
+     * @return the {@link RootStatus} of the solve
+     */
+    public static int solve(DifferentiableFunction f, double p0, double error, int maxIterations, RootResult result) {
+        double[] value = result.scratch;
+        f.eval(p0, value);
+        int iterations = 1;
+        double p = p0;
+        while (iterations < maxIterations) {
+            //Xn+1 = Xn - f(x) / f'(x)
+            double p1 = p - value[0] / value[1];
+            if (Double.isNaN(p1) || Double.isInfinite(p1)) {
+                return result.set(p, iterations, value[0], RootStatus.DIVERGED, iterations);
+            }
+            f.eval(p1, value);
+            if (Math.abs(value[0]) < error) {
+                return result.set(p1, iterations, value[0], RootStatus.CONVERGED, iterations + 1);
+            }
+            p = p1;
+            iterations++;
+        }
+        return result.set(p, iterations - 1, value[0], RootStatus.MAX_ITERATIONS, iterations);
+    }
+
+    /**
+     * Newton-Raphson with a function written over dual numbers: the derivative is exact and computed
+     * in the same evaluation as the value.
+     * @param f function
+     * @param p0 point of start
+     * @param error tolerated error level
+     * @param maxIterations max number of iterations
+     * @return the root of the function
+     * @throws RootNotFoundException in case there is no root or the function does not apply
+	 * the minimum requirements.
+     */
+    public static double findRootDual(DualFunction f, double p0, double error, int maxIterations)
+            throws RootNotFoundException {
+        RootResult result = new RootResult();
+        if (solveDual(f, p0, error, maxIterations, result) != RootStatus.CONVERGED) {
+            throw new RootNotFoundException(METHOD_NAME);
+        }
+        return result.root();
+    }
+
+    /**
+     * Takes the same steps as {@link #findRootDual(DualFunction, double, double, int)}, but reports a
+     * failure as a {@link RootStatus} instead of throwing an exception.
+     * @param f function
+     * @param p0 point of start
+     * @param error tolerated error level
+     * @param maxIterations max number of iterations
+     * @param result where the root, the iterations, the residual, the status and the evaluations are written. Its dual
+     * numbers are used to evaluate f, so the solve allocates nothing
+     * @return the {@link RootStatus} of the solve
+     */
+    public static int solveDual(DualFunction f, double p0, double error, int maxIterations, RootResult result) {
+        Dual x = result.variable;
+        Dual value = result.value;
+        f.eval(x.variable(p0), value);
+        int iterations = 1;
+        double p = p0;
+        while (iterations < maxIterations) {
+            //Xn+1 = Xn - f(x) / f'(x)
+            double p1 = p - value.value() / value.derivative();
+            if (Double.isNaN(p1) || Double.isInfinite(p1)) {
+                return result.set(p, iterations, value.value(), RootStatus.DIVERGED, iterations);
+            }
+            f.eval(x.variable(p1), value);
+            if (Math.abs(value.value()) < error) {
+                return result.set(p1, iterations, value.value(), RootStatus.CONVERGED, iterations + 1);
+            }
+            p = p1;
+            iterations++;
+        }
+        return result.set(p, iterations - 1, value.value(), RootStatus.MAX_ITERATIONS, iterations);
+    }
 }
@@ -0,0 +1,301 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import ar.edu.austral.analisis4.functions.DifferentiableVectorFunction;
+import ar.edu.austral.analisis4.functions.VectorFunction;
+
+/**
+ * <p>Newton's method for systems of n nonlinear equations F(x) = 0. Each iteration solves the linear system
+ * J(x) s = -F(x), with J the Jacobian matrix of F, by LU decomposition with partial pivoting, and moves to
+ * x + s. The Jacobian can be given by the function, estimated with forward differences (n evaluations of F
+ * per iteration) or, with Broyden's method, estimated once and then corrected with a rank-1 update per
+ * iteration, which needs a single evaluation of F per iteration and no new decomposition.</p>
+ *
+ * <p>A solver keeps the matrices and vectors of a given dimension and reuses them, so repeated solves
+ * allocate nothing. It is not thread-safe. Failures are reported as a {@link RootStatus}: the iteration stops
+ * with {@link RootStatus#DIVERGED} when the Jacobian is singular or F is not a finite number.</p>
+ *
+ * <b>Example</b>
+ * <pre>
+ * NewtonSystemSolver solver = new NewtonSystemSolver(2);
+ * double[] x = {-2, 1}; // point of start, overwritten with the root
+ * if (solver.solveBroyden(f, x, 1e-10, 50) == RootStatus.CONVERGED) { ... }
+ * <pre>
+ */
+public class NewtonSystemSolver {
+
+	/** Square root of the relative machine precision, relative step of the forward differences */
+	private static final double SQRT_EPSILON = Math.sqrt(Math.ulp(1.0));
+
+	private final int n;
+	/** Jacobian matrix, row-major, and then its LU decomposition */
+	private final double[] jacobian;
+	private final int[] pivots;
+	/** Inverse of the Jacobian updated by Broyden's method, created on the first use */
+	private double[] inverse;
+	private final double[] fx;
+	private final double[] fNew;
+	private final double[] step;
+	private final double[] df;
+	private final double[] u;
+	private final double[] w;
+
+	private int iterations;
+	private double residual;
+	private long evaluations;
+
+	/**
+	 * @param dimension amount of equations and unknowns of the systems to be solved, at least 1
+	 */
+	public NewtonSystemSolver(int dimension) {
+		if (dimension < 1) {
+			throw new IllegalArgumentException("dimension: " + dimension);
+		}
+		this.n = dimension;
+		this.jacobian = new double[dimension * dimension];
+		this.pivots = new int[dimension];
+		this.fx = new double[dimension];
+		this.fNew = new double[dimension];
+		this.step = new double[dimension];
+		this.df = new double[dimension];
+		this.u = new double[dimension];
+		this.w = new double[dimension];
+	}
+
+	/**
+	 * @return amount of equations and unknowns of the systems solved
+	 */
+	public int dimension() {
+		return n;
+	}
+
+	/**
+	 * @return iterations used by the last solve
+	 */
+	public int iterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return max norm of F in the last point of the last solve
+	 */
+	public double residual() {
+		return residual;
+	}
+
+	/**
+	 * @return evaluations of F used by the last solve, Jacobians given by the function not included
+	 */
+	public long evaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * Newton's method with the Jacobian given by the function.
+	 * @param f system of equations and its Jacobian
+	 * @param x point of start, overwritten with the root or the last approximation
+	 * @param error tolerated error level of the max norm of F
+	 * @param maxIterations max number of iterations
+	 * @return the {@link RootStatus} of the solve
+	 */
+	public int solve(DifferentiableVectorFunction f, double[] x, double error, int maxIterations) {
+		return newton(f, f, x, error, maxIterations);
+	}
+
+	/**
+	 * Newton's method with the Jacobian estimated by forward differences.
+	 * @param f system of equations
+	 * @param x point of start, overwritten with the root or the last approximation
+	 * @param error tolerated error level of the max norm of F
+	 * @param maxIterations max number of iterations
+	 * @return the {@link RootStatus} of the solve
+	 */
+	public int solve(VectorFunction f, double[] x, double error, int maxIterations) {
+		return newton(f, null, x, error, maxIterations);
+	}
+
+	private int newton(VectorFunction f, DifferentiableVectorFunction derived, double[] x, double error,
+			int maxIterations) {
+		start(f, x);
+		while (true) {
+			if (isNotFinite(residual)) {
+				return RootStatus.DIVERGED;
+			}
+			if (residual < error) {
+				return RootStatus.CONVERGED;
+			}
+			if (iterations >= maxIterations) {
+				return RootStatus.MAX_ITERATIONS;
+			}
+			iterations++;
+			if (derived != null) {
+				derived.jacobian(x, jacobian);
+			} else {
+				differences(f, x);
+			}
+			if (!DenseLU.decompose(jacobian, n, pivots)) {
+				return RootStatus.DIVERGED;
+			}
+			for (int i = 0; i < n; i++) {
+				step[i] = -fx[i];
+			}
+			DenseLU.solve(jacobian, n, pivots, step);
+			for (int i = 0; i < n; i++) {
+				x[i] += step[i];
+			}
+			eval(f, x, fx);
+			residual = norm(fx);
+		}
+	}
+
+	/**
+	 * Broyden's method: the Jacobian is estimated by forward differences only in the point of start, and
+	 * its inverse is then corrected with the Sherman-Morrison formula after each step, in O(n^2). The
+	 * estimation is repeated if the update is not defined.
+	 * @param f system of equations
+	 * @param x point of start, overwritten with the root or the last approximation
+	 * @param error tolerated error level of the max norm of F
+	 * @param maxIterations max number of iterations
+	 * @return the {@link RootStatus} of the solve
+	 */
+	public int solveBroyden(VectorFunction f, double[] x, double error, int maxIterations) {
+		if (inverse == null) {
+			inverse = new double[n * n];
+		}
+		final double[] b = inverse;
+		start(f, x);
+		boolean estimated = false;
+		while (true) {
+			if (isNotFinite(residual)) {
+				return RootStatus.DIVERGED;
+			}
+			if (residual < error) {
+				return RootStatus.CONVERGED;
+			}
+			if (iterations >= maxIterations) {
+				return RootStatus.MAX_ITERATIONS;
+			}
+			iterations++;
+			if (!estimated) {
+				if (!invert(f, x)) {
+					return RootStatus.DIVERGED;
+				}
+				estimated = true;
+			}
+			// s = -B F(x)
+			for (int i = 0; i < n; i++) {
+				double sum = 0;
+				for (int j = 0, row = i * n; j < n; j++) {
+					sum += b[row + j] * fx[j];
+				}
+				step[i] = -sum;
+			}
+			for (int i = 0; i < n; i++) {
+				x[i] += step[i];
+			}
+			eval(f, x, fNew);
+			for (int i = 0; i < n; i++) {
+				df[i] = fNew[i] - fx[i];
+			}
+			System.arraycopy(fNew, 0, fx, 0, n);
+			residual = norm(fx);
+			// B += (s - B y) s' B / (s' B y), with y the change of F
+			double denominator = 0;
+			for (int i = 0; i < n; i++) {
+				double sum = 0;
+				for (int j = 0, row = i * n; j < n; j++) {
+					sum += b[row + j] * df[j];
+				}
+				u[i] = sum;
+				denominator += step[i] * sum;
+			}
+			if (denominator == 0 || isNotFinite(denominator)) {
+				estimated = false;
+				continue;
+			}
+			for (int j = 0; j < n; j++) {
+				w[j] = 0;
+			}
+			for (int i = 0; i < n; i++) {
+				final double s = step[i];
+				for (int j = 0, row = i * n; j < n; j++) {
+					w[j] += s * b[row + j];
+				}
+			}
+			for (int i = 0; i < n; i++) {
+				final double factor = (step[i] - u[i]) / denominator;
+				if (factor != 0) {
+					for (int j = 0, row = i * n; j < n; j++) {
+						b[row + j] += factor * w[j];
+					}
+				}
+			}
+		}
+	}
+
+	private void start(VectorFunction f, double[] x) {
+		if (x.length != n) {
+			throw new IllegalArgumentException(x.length + " != " + n);
+		}
+		iterations = 0;
+		evaluations = 0;
+		eval(f, x, fx);
+		residual = norm(fx);
+	}
+
+	private void eval(VectorFunction f, double[] x, double[] out) {
+		f.eval(x, out);
+		evaluations++;
+	}
+
+	/**
+	 * Estimates the Jacobian in x with forward differences, given F(x) in fx
+	 */
+	private void differences(VectorFunction f, double[] x) {
+		for (int j = 0; j < n; j++) {
+			final double xj = x[j];
+			x[j] = xj + SQRT_EPSILON * Math.max(Math.abs(xj), 1);
+			final double h = x[j] - xj; // the step that was really taken
+			eval(f, x, fNew);
+			x[j] = xj;
+			for (int i = 0; i < n; i++) {
+				jacobian[i * n + j] = (fNew[i] - fx[i]) / h;
+			}
+		}
+	}
+
+	/**
+	 * Estimates the Jacobian in x and stores its inverse in {@link #inverse}
+	 * @return false if the Jacobian is singular
+	 */
+	private boolean invert(VectorFunction f, double[] x) {
+		differences(f, x);
+		if (!DenseLU.decompose(jacobian, n, pivots)) {
+			return false;
+		}
+		for (int j = 0; j < n; j++) {
+			for (int i = 0; i < n; i++) {
+				u[i] = i == j ? 1 : 0;
+			}
+			DenseLU.solve(jacobian, n, pivots, u);
+			for (int i = 0; i < n; i++) {
+				inverse[i * n + j] = u[i];
+			}
+		}
+		return true;
+	}
+
+	private static double norm(double[] v) {
+		double max = 0;
+		for (int i = 0; i < v.length; i++) {
+			double value = Math.abs(v[i]);
+			if (value > max || Double.isNaN(value)) {
+				max = value;
+			}
+		}
+		return max;
+	}
+
+	private static boolean isNotFinite(double value) {
+		return Double.isNaN(value) || Double.isInfinite(value);
+	}
+}
@@ -0,0 +1,82 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import ar.edu.austral.analisis4.functions.Dual;
+
+/**
+ * <p>Result of a single root finding problem solved with the <code>solve</code> methods of {@link Bisection},
+ * {@link NewtonRaphson} and {@link Brent}, which report failures as a {@link RootStatus} instead of throwing
+ * {@link ar.edu.austral.analisis4.exceptions.RootNotFoundException}.</p>
+ *
+ * <p>A result can be reused for any number of solves: each solve overwrites it, so a sweep that solves many
+ * problems needs a single result and allocates nothing per problem. It is not thread-safe.</p>
+ */
+public final class RootResult {
+
+	private double root;
+	private int iterations;
+	private double residual;
+	private int status;
+	private long evaluations;
+	/** Value and derivative of the functions that evaluate both together */
+	final double[] scratch = new double[2];
+	/** Point and value of the functions written over dual numbers */
+	final Dual variable = new Dual();
+	final Dual value = new Dual();
+
+	/**
+	 * @return the root, or the last approximation when the root was not found
+	 */
+	public double root() {
+		return root;
+	}
+
+	/**
+	 * @return the iterations used
+	 */
+	public int iterations() {
+		return iterations;
+	}
+
+	/**
+	 * @return the function value in {@link #root()}
+	 */
+	public double residual() {
+		return residual;
+	}
+
+	/**
+	 * @return the {@link RootStatus} of the solve
+	 */
+	public int status() {
+		return status;
+	}
+
+	/**
+	 * @return the evaluations of the function used, not counting the separate derivative of
+	 * {@link NewtonRaphson#solve(ar.edu.austral.analisis4.functions.OneVariableFunction, ar.edu.austral.analisis4.functions.OneVariableFunction, double, double, int, RootResult)}
+	 */
+	public long evaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return true if the root was found
+	 */
+	public boolean isConverged() {
+		return status == RootStatus.CONVERGED;
+	}
+
+	int set(double root, int iterations, double residual, int status, long evaluations) {
+		this.root = root;
+		this.iterations = iterations;
+		this.residual = residual;
+		this.status = status;
+		this.evaluations = evaluations;
+		return status;
+	}
+
+	@Override
+	public String toString() {
+		return "root=" + root + ", iterations=" + iterations + ", residual=" + residual + ", status=" + status + ", evaluations=" + evaluations;
+	}
+}
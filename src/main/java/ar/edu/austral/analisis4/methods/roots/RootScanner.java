@@ -0,0 +1,222 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+/**
+ * <p>Finds every root of a function in an interval [a, b]. The interval is first sampled in equal cells, and
+ * each cell where f changes sign is refined with {@link Brent}.</p>
+ *
+ * <p>Roots where f does not change sign (tangent roots, like the one of (x - 1)^2 in 1) and pairs of roots
+ * inside a single cell can not be seen as sign changes of the samples. So the cells where f keeps its sign
+ * are subdivided adaptively: f is sampled in the middle of the cell, and the parabola through the three
+ * samples tells whether |f| has a minimum inside the cell that may reach zero. If the parabola crosses zero,
+ * or its minimum is closer to zero than to the lowest sample (f is nearly tangent), both halves are scanned
+ * again in the same way, until f changes sign (and Brent refines it) or the cell is narrower than the
+ * tolerated error (and the smallest sample is a tangent root when |f| there is under the tolerated error).
+ * Cells where |f| is monotone or clearly away from zero are not subdivided, so the evaluations go to the
+ * places that need them.</p>
+ *
+ * <p>Cells can be split in blocks scanned in parallel on a {@link ForkJoinPool}, in which case f must be
+ * safe to call from several threads. The roots are returned sorted, with roots closer than the tolerated
+ * error reported once.</p>
+ */
+public class RootScanner {
+
+	/** Cells scanned by a single task */
+	private static final int CELLS_PER_TASK = 256;
+
+	/** Max number of iterations of each Brent refinement */
+	private static final int ITERATIONS = 200;
+
+	/** Max depth of the subdivision of a cell */
+	private static final int MAX_DEPTH = 60;
+
+	private RootScanner() {
+	}
+
+	/**
+	 * Scans every cell in the calling thread.
+	 * @see #findRoots(OneVariableFunction, double, double, int, double, ForkJoinPool)
+	 */
+	public static double[] findRoots(OneVariableFunction f, double a, double b, int intervals, double error) {
+		return findRoots(f, a, b, intervals, error, null);
+	}
+
+	/**
+	 * @param f Function
+	 * @param a left value
+	 * @param b right value
+	 * @param intervals amount of cells in which [a, b] is first sampled, at least 1. Cells are subdivided
+	 * where f may have hidden roots, but a cell where f changes sign is refined to a single root
+	 * @param error tolerated error level, of the roots and of |f| in the tangent roots
+	 * @param pool pool that scans the cells, or null to scan them in the calling thread
+	 * @return the roots in [a, b], in ascending order
+	 */
+	public static double[] findRoots(OneVariableFunction f, double a, double b, int intervals, double error,
+			ForkJoinPool pool) {
+		if (intervals < 1) {
+			throw new IllegalArgumentException("intervals: " + intervals);
+		}
+		if (b < a) {
+			throw new IllegalArgumentException(a + " > " + b);
+		}
+		ScanTask task = new ScanTask(f, a, b, intervals, error, 0, intervals);
+		double[] roots = pool == null ? task.scan() : pool.invoke(task);
+		Arrays.sort(roots);
+		int count = 0;
+		for (int i = 0; i < roots.length; i++) {
+			if (count == 0 || roots[i] - roots[count - 1] > error) {
+				roots[count++] = roots[i];
+			}
+		}
+		return Arrays.copyOf(roots, count);
+	}
+
+	/**
+	 * Cells [from, to) of the scan, split in halves until they fit in a single task
+	 */
+	private static final class ScanTask extends RecursiveTask<double[]> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final OneVariableFunction f;
+		private final double a;
+		private final double b;
+		private final int intervals;
+		private final double error;
+		private final int from;
+		private final int to;
+
+		ScanTask(OneVariableFunction f, double a, double b, int intervals, double error, int from, int to) {
+			this.f = f;
+			this.a = a;
+			this.b = b;
+			this.intervals = intervals;
+			this.error = error;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected double[] compute() {
+			if (to - from <= CELLS_PER_TASK) {
+				return scan();
+			}
+			int middle = (from + to) >>> 1;
+			ScanTask left = new ScanTask(f, a, b, intervals, error, from, middle);
+			ScanTask right = new ScanTask(f, a, b, intervals, error, middle, to);
+			invokeAll(left, right);
+			double[] l = left.join();
+			double[] r = right.join();
+			double[] roots = Arrays.copyOf(l, l.length + r.length);
+			System.arraycopy(r, 0, roots, l.length, r.length);
+			return roots;
+		}
+
+		private double knot(int i) {
+			return i == intervals ? b : a + (b - a) * i / intervals;
+		}
+
+		/**
+		 * Scans the cells [from, to)
+		 */
+		double[] scan() {
+			final Roots roots = new Roots();
+			final RootResult result = new RootResult();
+			double left = knot(from);
+			double fLeft = f.eval(left);
+			for (int i = from; i < to; i++) {
+				double right = knot(i + 1);
+				double fRight = f.eval(right);
+				if (fLeft == 0) {
+					roots.add(left);
+				}
+				cell(left, right, fLeft, fRight, 0, result, roots);
+				left = right;
+				fLeft = fRight;
+			}
+			if (to == intervals && fLeft == 0) {
+				roots.add(left);
+			}
+			return roots.toArray();
+		}
+
+		/**
+		 * Looks for the roots inside (left, right), given f in both ends
+		 */
+		private void cell(double left, double right, double fLeft, double fRight, int depth, RootResult result,
+				Roots roots) {
+			if (changesSign(fLeft, fRight)) {
+				if (Brent.solve(f, left, right, error, ITERATIONS, result) == RootStatus.CONVERGED) {
+					roots.add(result.root());
+				}
+				return;
+			}
+			final double middle = left + (right - left) / 2;
+			final double fMiddle = f.eval(middle);
+			if (fMiddle == 0 || changesSign(fLeft, fMiddle) || changesSign(fMiddle, fRight)) {
+				if (fMiddle == 0) {
+					roots.add(middle);
+				}
+				subdivide(left, middle, right, fLeft, fMiddle, fRight, depth, result, roots);
+				return;
+			}
+			// same sign: the parabola through g = |f| in the three samples
+			final double sign = fMiddle > 0 ? 1 : -1;
+			final double gLeft = sign * fLeft;
+			final double gMiddle = sign * fMiddle;
+			final double gRight = sign * fRight;
+			final double w = middle - left;
+			final double c2 = (gLeft - 2 * gMiddle + gRight) / (2 * w * w);
+			final double c1 = (gRight - gLeft) / (2 * w);
+			if (!(c2 > 0) || Math.abs(c1) > 2 * c2 * w) {
+				return; // |f| has no minimum inside the cell
+			}
+			final double vertex = gMiddle - c1 * c1 / (4 * c2);
+			final double lowest = Math.min(gMiddle, Math.min(gLeft, gRight));
+			if (vertex > 0 && vertex >= lowest - vertex) {
+				return; // the minimum is clearly away from zero
+			}
+			if (right - left > error && depth < MAX_DEPTH) {
+				subdivide(left, middle, right, fLeft, fMiddle, fRight, depth, result, roots);
+			} else if (lowest <= error) {
+				// tangent root
+				roots.add(lowest == gMiddle ? middle : lowest == gLeft ? left : right);
+			}
+		}
+
+		private void subdivide(double left, double middle, double right, double fLeft, double fMiddle,
+				double fRight, int depth, RootResult result, Roots roots) {
+			cell(left, middle, fLeft, fMiddle, depth + 1, result, roots);
+			cell(middle, right, fMiddle, fRight, depth + 1, result, roots);
+		}
+	}
+
+	/**
+	 * Roots found by a task, in a growing array
+	 */
+	private static final class Roots {
+
+		private double[] values = new double[16];
+		private int count;
+
+		void add(double root) {
+			if (count == values.length) {
+				values = Arrays.copyOf(values, 2 * count);
+			}
+			values[count++] = root;
+		}
+
+		double[] toArray() {
+			return Arrays.copyOf(values, count);
+		}
+	}
+
+	private static boolean changesSign(double f0, double f1) {
+		return (f0 > 0 && f1 < 0) || (f0 < 0 && f1 > 0);
+	}
+}
@@ -0,0 +1,22 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+/**
+ * Status codes reported by the root finders that do not throw {@link ar.edu.austral.analisis4.exceptions.RootNotFoundException}.
+ */
+public final class RootStatus {
+
+	/** The root was found within the tolerated error */
+	public static final int CONVERGED = 0;
+
+	/** The max number of iterations was reached before finding the root */
+	public static final int MAX_ITERATIONS = 1;
+
+	/** The method diverged: a step was not a finite number, for example because the derivative was 0 */
+	public static final int DIVERGED = 2;
+
+	/** f has the same sign in both ends of the interval, so it does not bracket a root */
+	public static final int NO_BRACKET = 3;
+
+	private RootStatus() {
+	}
+}
@@ -0,0 +1,125 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableVectorFunction;
+import ar.edu.austral.analisis4.functions.ParameterizedFunction;
+
+@RunWith(value = Parameterized.class)
+public class BatchRombergTest {
+
+	private static final double TOLERANCE = 0.0000000001;
+
+	// integral in [0, 1] is (e^p - 1) / p
+	private static final ParameterizedFunction FUNCTION = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return Math.exp(p * x);
+		}
+	};
+
+	// the singularity of the derivative at -p * 1e-9 keeps Romberg refining past 2^11 intervals
+	private static final ParameterizedFunction DEEP_FUNCTION = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return Math.sqrt(x + p * 1e-9) * Math.sin(37 * x * p);
+		}
+	};
+
+	private int members;
+
+	public BatchRombergTest(int members) {
+		this.members = members;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		Object[][] parameters = new Object[][] { { 1 }, { 100 }, { 5000 } };
+		return Arrays.asList(parameters);
+	}
+
+	private double[] parameters() {
+		double[] parameters = new double[members];
+		for (int i = 0; i < members; i++) {
+			parameters[i] = 0.1 + 5.0 * i / members;
+		}
+		return parameters;
+	}
+
+	@Test
+	public void calculateTestParameterized() {
+		final double[] parameters = parameters();
+		BatchIntegrationResult result = BatchRomberg.integrate(FUNCTION, parameters, 0, 1, TOLERANCE, 20);
+		System.out.println("Members: " + members + " first: " + result.get(0) + " last: " + result.get(members - 1));
+		assertTrue("The integration did not converge", result.allConverged());
+		for (int i = 0; i < members; i++) {
+			final double p = parameters[i];
+			IntegrationResult alone = Romberg.integrate(new OneVariableFunction() {
+				public double eval(double x) {
+					return FUNCTION.eval(x, p);
+				}
+			}, 0, 1, TOLERANCE, 20);
+			assertEquals("The integral was not the expected", (Math.exp(p) - 1) / p, result.values()[i], 0.00000001 * Math.exp(p));
+			assertEquals("The integral was not the expected", alone.value(), result.values()[i], 0);
+			assertEquals("The error was not the expected", alone.error(), result.errors()[i], 0);
+			assertEquals("The evaluations were not the expected", alone.evaluations(), result.evaluations()[i]);
+		}
+	}
+
+	@Test
+	public void calculateTestVector() {
+		final double[] parameters = parameters();
+		OneVariableVectorFunction f = new OneVariableVectorFunction() {
+			public void eval(double x, double[] out) {
+				for (int i = 0; i < out.length; i++) {
+					out[i] = FUNCTION.eval(x, parameters[i]);
+				}
+			}
+		};
+		BatchIntegrationResult vector = BatchRomberg.integrate(f, members, 0, 1, TOLERANCE, 20);
+		BatchIntegrationResult batch = BatchRomberg.integrate(FUNCTION, parameters, 0, 1, TOLERANCE, 20);
+		for (int i = 0; i < members; i++) {
+			assertEquals("The integral was not the expected", batch.values()[i], vector.values()[i], 0);
+			assertEquals("The evaluations were not the expected", batch.evaluations()[i], vector.evaluations()[i]);
+			assertEquals(batch.converged()[i], vector.converged()[i]);
+		}
+	}
+
+	@Test
+	public void calculateTestDeepLevels() {
+		// more than Romberg.BLOCK midpoints per level, so the sums are added by blocks
+		final double[] parameters = Arrays.copyOf(parameters(), Math.min(members, 10));
+		BatchIntegrationResult result = BatchRomberg.integrate(DEEP_FUNCTION, parameters, 0, 1, 0.0000000000001, 16);
+		System.out.println("Members: " + parameters.length + " first: " + result.get(0));
+		for (int i = 0; i < parameters.length; i++) {
+			final double p = parameters[i];
+			IntegrationResult alone = Romberg.integrate(new OneVariableFunction() {
+				public double eval(double x) {
+					return DEEP_FUNCTION.eval(x, p);
+				}
+			}, 0, 1, 0.0000000000001, 16);
+			assertTrue("The integration did not refine past 11 levels", result.evaluations()[i] > (1 << 11) + 1);
+			assertEquals("The integral was not the expected", alone.value(), result.values()[i], 0);
+			assertEquals("The error was not the expected", alone.error(), result.errors()[i], 0);
+			assertEquals("The evaluations were not the expected", alone.evaluations(), result.evaluations()[i]);
+			assertEquals(alone.isConverged(), result.converged()[i]);
+		}
+	}
+
+	@Test
+	public void calculateTestLimit() {
+		BatchIntegrationResult result = BatchRomberg.integrate(FUNCTION, parameters(), 0, 1, 0, 3);
+		for (int i = 0; i < members; i++) {
+			assertTrue("The integration converged", !result.converged()[i]);
+			assertEquals("The evaluations were not the expected", 9, result.evaluations()[i]);
+		}
+	}
+}
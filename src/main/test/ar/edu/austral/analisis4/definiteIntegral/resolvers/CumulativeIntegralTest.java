@@ -0,0 +1,123 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class CumulativeIntegralTest {
+
+	private OneVariableFunction function;
+	private OneVariableFunction primitive;
+	private String functionString;
+	private double a;
+	private double b;
+
+	public CumulativeIntegralTest(OneVariableFunction function, OneVariableFunction primitive,
+			String functionString, double a, double b) {
+		super();
+		this.function = function;
+		this.primitive = primitive;
+		this.functionString = functionString;
+		this.a = a;
+		this.b = b;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//Function 1
+    	final OneVariableFunction f1 = new OneVariableFunction(){
+            public double eval(double x){
+            	return 1 / x;
+            }
+        };
+    	final OneVariableFunction p1 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.log(x);
+            }
+        };
+        final String f1String = "1 / x";
+
+        //Function 2
+    	final OneVariableFunction f2 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.cos(x);
+            }
+        };
+    	final OneVariableFunction p2 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.sin(x);
+            }
+        };
+        final String f2String = "cos(x)";
+
+        Object[][] parameters = new Object[][] {{f1, p1, f1String, 1, 2},
+        										{f2, p2, f2String, 0, 10}};
+    	return Arrays.asList(parameters);
+    }
+
+	private double expected(double x) {
+		return primitive.eval(x) - primitive.eval(a);
+	}
+
+	@Test
+	public void calculateTest(){
+		OneVariableFunction trapezoid = CumulativeIntegral.integrate(function, a, b, 1000, false);
+		OneVariableFunction richardson = CumulativeIntegral.integrate(function, a, b, 1000, true);
+		for (int i = 0; i <= 777; i++) {
+			double x = a + (b - a) * i / 777;
+			assertEquals("The integral was not the expected", expected(x), trapezoid.eval(x), 0.00001);
+			assertEquals("The integral was not the expected", expected(x), richardson.eval(x), 0.0000000001);
+		}
+		System.out.println("Function: " + functionString + "\n cumulative integral in " + b + ": "
+				+ richardson.eval(b) + " Expected value: " + expected(b));
+	}
+
+	@Test
+	public void calculateTestSamples(){
+		// unequally spaced points, denser near a
+		int n = 2001;
+		double[] x = new double[n];
+		double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			double t = (double) i / (n - 1);
+			x[i] = a + (b - a) * t * t;
+			y[i] = function.eval(x[i]);
+		}
+		double[] trapezoid = CumulativeIntegral.trapezoid(x, y);
+		double[] simpson = CumulativeIntegral.simpson(x, y);
+		for (int i = 0; i < n; i++) {
+			assertEquals("The integral was not the expected", expected(x[i]), trapezoid[i], 0.0001);
+			assertEquals("The integral was not the expected", expected(x[i]), simpson[i], 0.0000001);
+		}
+		OneVariableFunction F = CumulativeIntegral.interpolate(x, y, true);
+		double middle = (a + b) / 2;
+		assertEquals("The integral was not the expected", expected(middle), F.eval(middle), 0.00000001);
+	}
+
+	@Test
+	public void calculateTestCubic(){
+		// Simpson is exact for parabolas, Richardson for cubics
+		OneVariableFunction cubic = new OneVariableFunction() {
+			public double eval(double x) {
+				return x * x * x - 2 * x;
+			}
+		};
+		double[] x = { 0, 0.5, 1.25, 2, 3 };
+		double[] y = new double[x.length];
+		for (int i = 0; i < x.length; i++) {
+			y[i] = x[i] * x[i];
+		}
+		assertEquals("The integral was not the expected", 9, CumulativeIntegral.simpson(x, y)[x.length - 1], 0.000000000001);
+		assertEquals("The integral was not the expected", 81.0 / 4 - 9,
+				CumulativeIntegral.integrate(cubic, 0, 3, 3, true).eval(3), 0.000000000001);
+	}
+}
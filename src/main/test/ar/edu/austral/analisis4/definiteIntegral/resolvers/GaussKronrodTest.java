@@ -0,0 +1,139 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class GaussKronrodTest {
+
+	private static final double TOLERANCE = 0.0000000001;
+
+	private OneVariableFunction function;
+	private String functionString;
+	private double a;
+	private double b;
+	private double expectedResult;
+
+	public GaussKronrodTest(OneVariableFunction function, String functionString,
+			double a, double b, double expectedResult) {
+		super();
+		this.function = function;
+		this.functionString = functionString;
+		this.a = a;
+		this.b = b;
+		this.expectedResult = expectedResult;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//Function 1
+    	final OneVariableFunction f1 = new OneVariableFunction(){
+            public double eval(double x){
+            	return 1 / x;
+            }
+        };
+        final String f1String = "1 / x";
+
+        //Function 2
+    	final OneVariableFunction f2 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.pow(Math.E, Math.pow(x, 2));
+            }
+        };
+        final String f2String = "e^(x^2)";
+
+        //Function 3: singular in 0
+    	final OneVariableFunction f3 = new OneVariableFunction(){
+            public double eval(double x){
+            	return 1 / Math.sqrt(x);
+            }
+        };
+        final String f3String = "1 / sqrt(x)";
+
+        //Function 4: narrow peak in 0.3
+    	final OneVariableFunction f4 = new OneVariableFunction(){
+            public double eval(double x){
+            	return 1 / ((x - 0.3) * (x - 0.3) + 0.0001);
+            }
+        };
+        final String f4String = "1 / ((x - 0.3)^2 + 0.0001)";
+
+        Object[][] parameters = new Object[][] {{f1, f1String, 1, 2, Math.log(2)},
+        										{f2, f2String, 0, 1, 1.4626517459071816},
+        										{f3, f3String, 0, 1, 2},
+        										{f4, f4String, 0, 1, 100 * (Math.atan(70) + Math.atan(30))},
+        										{f4, f4String, 1, 0, -100 * (Math.atan(70) + Math.atan(30))}};
+    	return Arrays.asList(parameters);
+    }
+
+	@Test
+	public void calculateTestG7K15(){
+		calculate(GaussKronrod.createG7K15());
+	}
+
+	@Test
+	public void calculateTestG10K21(){
+		calculate(GaussKronrod.createG10K21());
+	}
+
+	private void calculate(GaussKronrod rule) {
+		IntegrationResult result = rule.integrate(function, a, b, TOLERANCE, TOLERANCE, 1000000);
+		System.out.println("Function: " + functionString + "\n Gauss-Kronrod " + rule.points() + ": " + result
+				+ " Expected value: " + expectedResult);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertTrue("The error was not the expected", result.error() <= Math.max(TOLERANCE, TOLERANCE * Math.abs(result.value())));
+		assertEquals("The integral was not the expected", expectedResult, result.value(), 0.00000001 * Math.max(1, Math.abs(expectedResult)));
+	}
+
+	@Test
+	public void calculateTestCubature(){
+		// the product f(x) f(y) in [a, b] x [a, b] integrates to the square of the integral of f
+		TwoVariableFunction product = new TwoVariableFunction(){
+			public double eval(double x, double y){
+				return function.eval(x) * function.eval(y);
+			}
+		};
+		double expected = expectedResult * expectedResult;
+		GaussKronrod rule = GaussKronrod.createG7K15();
+		IntegrationResult result = rule.integrate(product, a, b, a, b, TOLERANCE, TOLERANCE, 10000000);
+		System.out.println("Function: " + functionString + " (x) " + functionString + " (y)\n Gauss-Kronrod "
+				+ rule.points() + "x" + rule.points() + ": " + result + " Expected value: " + expected);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertEquals("The integral was not the expected", expected, result.value(), 0.00000001 * Math.max(1, expected));
+	}
+
+	@Test
+	public void calculateTestCubatureThinStrip(){
+		// two ulps wide in x: the error in x can not be reduced, so the rectangles are halved in y
+		final double ax = 1;
+		final double bx = Math.nextUp(Math.nextUp(ax));
+		TwoVariableFunction f = new TwoVariableFunction(){
+			public double eval(double x, double y){
+				return (x == ax ? 1 : 1.000000003) * Math.sqrt(y);
+			}
+		};
+		IntegrationResult result = GaussKronrod.createG7K15().integrate(f, ax, bx, 0, 1, 0, TOLERANCE, 100000);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertEquals("The integral was not the expected", (bx - ax) * 2 / 3, result.value(), 0.00000001 * (bx - ax));
+	}
+
+	@Test
+	public void calculateTestBudget(){
+		GaussKronrod rule = GaussKronrod.createG7K15();
+		IntegrationResult result = rule.integrate(function, a, b, 0, 0, 100);
+		assertTrue("The integration converged", !result.isConverged());
+		assertTrue("Too many evaluations", result.evaluations() <= 100);
+		assertEquals("The evaluations were not the expected", 15 + 2 * 15 * 2, result.evaluations());
+	}
+}
@@ -0,0 +1,104 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class QuasiMonteCarloTest {
+
+	private TwoVariableFunction function;
+	private String functionString;
+	private double ax;
+	private double bx;
+	private double ay;
+	private double by;
+	private double expectedResult;
+
+	public QuasiMonteCarloTest(TwoVariableFunction function, String functionString, double ax, double bx,
+			double ay, double by, double expectedResult) {
+		super();
+		this.function = function;
+		this.functionString = functionString;
+		this.ax = ax;
+		this.bx = bx;
+		this.ay = ay;
+		this.by = by;
+		this.expectedResult = expectedResult;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//Function 1
+    	final TwoVariableFunction f1 = new TwoVariableFunction(){
+            public double eval(double x, double y){
+            	return Math.exp(x + y);
+            }
+        };
+        final String f1String = "e^(x + y)";
+
+        //Function 2
+    	final TwoVariableFunction f2 = new TwoVariableFunction(){
+            public double eval(double x, double y){
+            	return Math.sin(x) * Math.cos(y);
+            }
+        };
+        final String f2String = "sin(x) cos(y)";
+
+        //Function 3: narrow peak in (0.3, 0.4)
+    	final TwoVariableFunction f3 = new TwoVariableFunction(){
+            public double eval(double x, double y){
+            	return Math.exp(-((x - 0.3) * (x - 0.3) + (y - 0.4) * (y - 0.4)) / 0.01);
+            }
+        };
+        final String f3String = "e^(-((x - 0.3)^2 + (y - 0.4)^2) / 0.01)";
+        // erf(3) = 0.9999779095030014, erf(4) = 0.9999999845827421, erf(6) = erf(7) = 1 in double
+        final double f3Result = Math.PI * 0.01 / 4 * (1 + 0.9999779095030014) * (1 + 0.9999999845827421);
+
+        Object[][] parameters = new Object[][] {{f1, f1String, 0, 1, 0, 1, (Math.E - 1) * (Math.E - 1)},
+        										{f2, f2String, 0, Math.PI, 0, Math.PI / 2, 2},
+        										{f3, f3String, 0, 1, 0, 1, f3Result}};
+    	return Arrays.asList(parameters);
+    }
+
+	@Test
+	public void calculateTest(){
+		double tolerance = 0.000001 * Math.abs(expectedResult);
+		IntegrationResult result = QuasiMonteCarlo.integrate(function, ax, bx, ay, by, tolerance, 100000000);
+		System.out.println("Function: " + functionString + "\n Quasi-Monte Carlo: " + result + " Expected value: " + expectedResult);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertEquals("The integral was not the expected", expectedResult, result.value(), 10 * tolerance);
+	}
+
+	@Test
+	public void calculateTestParallel(){
+		double tolerance = 0.000001 * Math.abs(expectedResult);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			IntegrationResult serial = QuasiMonteCarlo.integrate(function, ax, bx, ay, by, tolerance, 100000000);
+			IntegrationResult parallel = QuasiMonteCarlo.integrate(function, ax, bx, ay, by, tolerance, 100000000, pool);
+			assertEquals("The integral was not the expected", serial.value(), parallel.value(), 0);
+			assertEquals("The error was not the expected", serial.error(), parallel.error(), 0);
+			assertEquals("The evaluations were not the expected", serial.evaluations(), parallel.evaluations());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void calculateTestBudget(){
+		IntegrationResult result = QuasiMonteCarlo.integrate(function, ax, bx, ay, by, 0, 16 * 1000);
+		assertTrue("The integration converged", !result.isConverged());
+		assertEquals("The evaluations were not the expected", 16 * 377, result.evaluations());
+	}
+}
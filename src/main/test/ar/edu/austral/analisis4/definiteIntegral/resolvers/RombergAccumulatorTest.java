@@ -0,0 +1,148 @@
+package ar.edu.austral.analisis4.definiteIntegral.resolvers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class RombergAccumulatorTest {
+
+	private OneVariableFunction function;
+	private String functionString;
+	private double a;
+	private double b;
+	private int k;
+
+	public RombergAccumulatorTest(OneVariableFunction function, String functionString, double a, double b, int k) {
+		super();
+		this.function = function;
+		this.functionString = functionString;
+		this.a = a;
+		this.b = b;
+		this.k = k;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//Function 1
+    	final OneVariableFunction f1 = new OneVariableFunction(){
+            public double eval(double x){
+            	return 1 / x;
+            }
+        };
+        final String f1String = "1 / x";
+
+        //Function 2
+    	final OneVariableFunction f2 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.pow(Math.E, Math.pow(x, 2));
+            }
+        };
+        final String f2String = "e^(x^2)";
+
+        Object[][] parameters = new Object[][] {{f1, f1String, 1, 2, 12},
+        										{f2, f2String, 0, 1, 12},
+        										{f2, f2String, 0, 1, 1}};
+    	return Arrays.asList(parameters);
+    }
+
+	private double[] samples() {
+		int n = 1 << k;
+		double[] samples = new double[n + 1];
+		for (int i = 0; i <= n; i++) {
+			samples[i] = function.eval(a + (b - a) * i / n);
+		}
+		return samples;
+	}
+
+	@Test
+	public void calculateTest(){
+		double[] samples = samples();
+		RombergAccumulator accumulator = new RombergAccumulator();
+		for (int i = 0; i < samples.length; i += 100) {
+			accumulator.add(samples, i, Math.min(100, samples.length - i));
+		}
+		IntegrationResult result = accumulator.result(a, b);
+		IntegrationResult expected = Romberg.integrate(function, a, b, 0, k);
+		System.out.println("Function: " + functionString + "\n romberg of samples: " + result + " Expected value: " + expected);
+		assertEquals("The integral was not the expected", expected.value(), result.value(), 0.000000000001);
+		assertEquals("The error was not the expected", expected.error(), result.error(), 0.000000000001);
+		assertEquals("The evaluations were not the expected", samples.length, result.evaluations());
+	}
+
+	@Test
+	public void calculateTestBuffer(){
+		double[] samples = samples();
+		RombergAccumulator accumulator = new RombergAccumulator();
+		for (double sample : samples) {
+			accumulator.add(sample);
+		}
+		DoubleBuffer buffer = DoubleBuffer.wrap(samples);
+		IntegrationResult result = Romberg.romberg(buffer, a, b);
+		assertEquals("The integral was not the expected", accumulator.result(a, b).value(), result.value(), 0);
+		assertEquals("The buffer was changed", 0, buffer.position());
+	}
+
+	@Test
+	public void calculateTestFile() throws IOException {
+		double[] samples = samples();
+		File file = File.createTempFile("romberg", ".bin");
+		RandomAccessFile random = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = random.getChannel();
+			ByteBuffer bytes = ByteBuffer.allocate(samples.length * 8);
+			bytes.asDoubleBuffer().put(samples);
+			channel.write(bytes);
+			channel.position(0);
+			// small chunks, so the file is mapped several times
+			IntegrationResult result = Romberg.romberg(channel, ByteOrder.BIG_ENDIAN, a, b, 4096);
+			assertEquals("The integral was not the expected", Romberg.romberg(DoubleBuffer.wrap(samples), a, b).value(),
+					result.value(), 0);
+			assertEquals("The evaluations were not the expected", samples.length, result.evaluations());
+		} finally {
+			random.close();
+			file.delete();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void calculateTestPartialFile() throws IOException {
+		double[] samples = samples();
+		File file = File.createTempFile("romberg", ".bin");
+		RandomAccessFile random = new RandomAccessFile(file, "rw");
+		try {
+			FileChannel channel = random.getChannel();
+			// half a double after the samples
+			ByteBuffer bytes = ByteBuffer.allocate(samples.length * 8 + 4);
+			bytes.asDoubleBuffer().put(samples);
+			channel.write(bytes);
+			channel.position(0);
+			Romberg.romberg(channel, ByteOrder.BIG_ENDIAN, a, b, 4096);
+		} finally {
+			random.close();
+			file.delete();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void calculateTestSamples(){
+		RombergAccumulator accumulator = new RombergAccumulator();
+		accumulator.add(new double[4], 0, 4);
+		accumulator.result(a, b);
+	}
+}
@@ -1,9 +1,11 @@
 package ar.edu.austral.analisis4.definiteIntegral.resolvers;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -64,4 +66,39 @@ public class RombergTest {
 		System.out.println("Function: " + functionString + "\n romberg: " + calculateRoot + " Expected value: " + expectedResult);
 		assertEquals("The root founded was not the expected", expectedResult, calculateRoot, 0.00001);
 	}
+
+	@Test
+	public void calculateTestIntegrate(){
+		IntegrationResult result = Romberg.integrate(function, a, b, 0.0000000001, 30);
+		System.out.println("Function: " + functionString + "\n romberg with tolerance: " + result + " Expected value: " + expectedResult);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertTrue("The error was not the expected", result.error() <= 0.0000000001);
+		assertTrue("Too many evaluations", result.evaluations() < (1 << k) + 1);
+		assertEquals("The integral was not the expected", expectedResult, result.value(), 0.00001);
+		assertEquals("The integral was not the expected", Romberg.romberg(function, a, b, k), result.value(), 0.000000001);
+	}
+
+	@Test
+	public void calculateTestIntegrateLimit(){
+		IntegrationResult result = Romberg.integrate(function, a, b, 0, 6);
+		assertTrue("The integration converged", !result.isConverged());
+		assertEquals("The evaluations were not the expected", (1 << 6) + 1, result.evaluations());
+	}
+
+	@Test
+	public void calculateTestIntegrateParallel(){
+		// tolerance 0 refines every level, the last ones with several blocks of points
+		IntegrationResult serial = Romberg.integrate(function, a, b, 0, k);
+		for (int threads = 1; threads <= 8; threads *= 2) {
+			ForkJoinPool pool = new ForkJoinPool(threads);
+			try {
+				IntegrationResult parallel = Romberg.integrate(function, a, b, 0, k, pool);
+				assertEquals("The integral was not the expected", serial.value(), parallel.value(), 0);
+				assertEquals("The error was not the expected", serial.error(), parallel.error(), 0);
+				assertEquals("The evaluations were not the expected", serial.evaluations(), parallel.evaluations());
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
 }
@@ -10,6 +10,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import ar.edu.austral.analisis4.functions.Dual;
+import ar.edu.austral.analisis4.functions.DualTwoVariableFunction;
 import ar.edu.austral.analisis4.functions.TwoVariableFunction;
 
 @RunWith(value = Parameterized.class)
@@ -90,6 +92,28 @@ public class AdamsTest {
 		System.out.println("Expected value: "+expected);
 		System.out.println("Result: "+actual);
 	}
+	@Test
+	public void calculateTestAdamsMoultonNewtonOrder5() {
+		Adams order5 = Adams.createOrder5();
+		double actual = order5.adamsMoulton(createDualFunction1(), x0, y0, xn, 10, 0.000000001);
+		assertEquals("the expected value does not match the result", expected, actual, ERROR);
+		assertEquals("the expected value does not match the result",
+				order5.adamsMoulton(function, x0, y0, xn, 10, 0.000000001), actual, 0.000000001);
+		System.out.println("Function: y'=" + functionString + ", x0=" + x0 + ", y0=" + y0 + ", xn=" + xn);
+		System.out.println("Result (Newton corrector): "+actual);
+	}
+
+	private static DualTwoVariableFunction createDualFunction1() {
+		return new DualTwoVariableFunction() {
+			private final Dual t = new Dual();
+			@Override
+			public void eval(Dual x, Dual y, Dual result) {
+				t.multiply(y, 0.5);
+				result.multiply(x, 0.8).exp(result).multiply(result, 4).subtract(result, t);   //4 * e^(0.8x) - 0.5y
+			}
+		};
+	}
+
 	private static TwoVariableFunction createFunction1() {
 		return new TwoVariableFunction() {
 			@Override
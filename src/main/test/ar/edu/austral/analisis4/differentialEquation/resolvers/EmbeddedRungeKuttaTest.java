@@ -0,0 +1,114 @@
+package ar.edu.austral.analisis4.differentialEquation.resolvers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class EmbeddedRungeKuttaTest {
+
+	private static final double TOLERANCE = 0.00000001;
+
+	private EmbeddedRungeKutta rungeKutta;
+	private String name;
+	/** how many times fewer evaluations than a fixed step RK4 with the same error */
+	private int saving;
+
+	public EmbeddedRungeKuttaTest(EmbeddedRungeKutta rungeKutta, String name, int saving) {
+		this.rungeKutta = rungeKutta;
+		this.name = name;
+		this.saving = saving;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		Object[][] parameters = new Object[][] { { EmbeddedRungeKutta.createDormandPrince(), "Dormand-Prince 5(4)", 10 },
+				{ EmbeddedRungeKutta.createBogackiShampine(), "Bogacki-Shampine 3(2)", 2 } };
+		return Arrays.asList(parameters);
+	}
+
+	/*
+	 * Create the function: f(x, y)= 4 * e^(0.8x) - 0.5y
+	 */
+	private static TwoVariableFunction createFunction() {
+		return new TwoVariableFunction() {
+			public double eval(double x, double y) {
+				return 4 * Math.exp(0.8 * x) - 0.5 * y;
+			}
+		};
+	}
+
+	private static double solution(double x) {
+		return 4 / 1.3 * (Math.exp(0.8 * x) - Math.exp(-0.5 * x)) + 2 * Math.exp(-0.5 * x);
+	}
+
+	/*
+	 * Create the function: f(x, y)= 1 / ((x - 5)^2 + 0.0001), a narrow peak in 5
+	 */
+	private static TwoVariableFunction createPeakFunction() {
+		return new TwoVariableFunction() {
+			public double eval(double x, double y) {
+				return 1 / ((x - 5) * (x - 5) + 0.0001);
+			}
+		};
+	}
+
+	@Test
+	public void calculateTest() {
+		DifferentialEquationResult result = rungeKutta.solve(createFunction(), 0, 2, 4, TOLERANCE, TOLERANCE, 100000);
+		System.out.println(name + ": " + result + " Expected value: " + solution(4));
+		assertTrue("The integration did not converge", result.isConverged());
+		assertEquals("The x reached was not the expected", 4, result.x(), 0);
+		assertEquals("The value was not the expected", solution(4), result.value(), 1000 * TOLERANCE * solution(4));
+	}
+
+	@Test
+	public void calculateTestBackwards() {
+		DifferentialEquationResult result = rungeKutta.solve(createFunction(), 4, solution(4), 0, TOLERANCE, TOLERANCE, 100000);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertEquals("The value was not the expected", 2, result.value(), 0.00001);
+	}
+
+	@Test
+	public void calculateTestEvaluations() {
+		final TwoVariableFunction peak = createPeakFunction();
+		final long[] count = new long[1];
+		TwoVariableFunction f = new TwoVariableFunction() {
+			public double eval(double x, double y) {
+				count[0]++;
+				return peak.eval(x, y);
+			}
+		};
+		double expected = 100 * 2 * Math.atan(500);
+		DifferentialEquationResult result = rungeKutta.solve(f, 0, 0, 10, TOLERANCE, TOLERANCE, 1000000);
+		assertTrue("The integration did not converge", result.isConverged());
+		assertEquals("The evaluations were not the expected", count[0], result.evaluations());
+		double error = Math.abs(result.value() - expected);
+		assertTrue("The value was not the expected", error < 0.001);
+		// fixed step RK4 with the same error
+		RungeKutta fixed = new RungeKutta();
+		int n = 16;
+		while (Math.abs(fixed.tabulateOrder4(createPeakFunction(), 0, 0, 10, n)[n] - expected) > error) {
+			n *= 2;
+		}
+		System.out.println(name + ": " + result + " error " + error + ". Fixed step RK4: " + 4L * n + " evaluations");
+		assertTrue("The step size control did not save evaluations", saving * result.evaluations() < 4L * n);
+	}
+
+	@Test
+	public void calculateTestMaxSteps() {
+		DifferentialEquationResult result = rungeKutta.solve(createPeakFunction(), 0, 0, 10, TOLERANCE, TOLERANCE, 10);
+		assertTrue("The integration converged", !result.isConverged());
+		assertEquals("The steps were not the expected", 10, result.accepted() + result.rejected());
+		assertTrue("The x reached was not the expected", result.x() < 10);
+	}
+}
@@ -0,0 +1,100 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javax.vecmath.Point2d;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
+
+@RunWith(value = Parameterized.class)
+public class BarycentricInterpolationTest {
+
+	private static final double ERROR = 0.00001;
+
+	private List<Point2d> points;
+	private OneVariableFunction function;
+	private double a;
+	private double b;
+	
+	public BarycentricInterpolationTest(List<Point2d> points, OneVariableFunction function, double a, double b) {
+		this.points = points;
+		this.function = function;
+		this.a = a;
+		this.b = b;
+	}
+
+	@Test
+	public void testSameAsNewtonInterpolation(){
+		OneVariableFunction interpolation = BarycentricInterpolation.interpolate(points);
+		OneVariableFunction newton = NewtonInterpolation.interpolate(points);
+		for(int i = 0; i<7; i++) {
+			testAssertEquals(newton.eval(i), interpolation.eval(i));
+		}
+	}
+
+	@Test
+	public void testChebyshevFirstKind(){
+		testChebyshev(BarycentricInterpolation.chebyshevFirstKind(function, a, b, 30));
+	}
+
+	@Test
+	public void testChebyshevSecondKind(){
+		testChebyshev(BarycentricInterpolation.chebyshevSecondKind(function, a, b, 30));
+	}
+
+	@Test
+	public void testChebyshevAddPoint(){
+		BarycentricInterpolation interpolation = BarycentricInterpolation.chebyshevSecondKind(function, a, b, 29);
+		double x = (a + b) / 3;
+		interpolation.addPoint(x, function.eval(x));
+		testChebyshev(interpolation);
+	}
+
+	private void testChebyshev(OneVariableFunction interpolation) {
+		double[] xs = new double[101];
+		double[] out = new double[xs.length];
+		for(int i = 0; i<xs.length; i++) {
+			xs[i] = a + i * (b - a) / (xs.length - 1);
+		}
+		OneVariableFunctions.eval(interpolation, xs, out, 0, xs.length);
+		for(int i = 0; i<xs.length; i++) {
+			testAssertEquals(function.eval(xs[i]), interpolation.eval(xs[i]));
+			testAssertEquals(function.eval(xs[i]), out[i]);
+		}
+	}
+	
+	private void testAssertEquals(double expected, double actual) {
+		assertEquals("The value founded was not the expected", expected, actual, ERROR);
+	}
+    
+	private static List<Point2d> createPoints() {
+		List<Point2d> points = new ArrayList<Point2d>();
+		points.add(new Point2d(0, 0));
+		points.add(new Point2d(2, 4));
+		points.add(new Point2d(4, 0));
+		points.add(new Point2d(5, 8));
+		return points;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		final OneVariableFunction f1 = new OneVariableFunction(){
+			public double eval(double x){
+				return Math.exp(x) * Math.sin(3 * x);
+			}
+		};
+		Object[][] parameters = new Object[][] {{createPoints(), f1, -1, 2}};
+		return Arrays.asList(parameters);
+	}
+}
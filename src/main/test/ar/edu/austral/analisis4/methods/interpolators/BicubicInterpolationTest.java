@@ -0,0 +1,88 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+import ar.edu.austral.analisis4.functions.TwoVariableFunctions;
+
+@RunWith(value = Parameterized.class)
+public class BicubicInterpolationTest {
+
+	private static final double ERROR = 0.0001;
+
+	private double[] x;
+	private double[] y;
+	private double[] z;
+	
+	public BicubicInterpolationTest(double[] x, double[] y) {
+		this.x = x;
+		this.y = y;
+		this.z = new double[x.length * y.length];
+		for (int j = 0; j < y.length; j++) {
+			for (int i = 0; i < x.length; i++) {
+				z[j * x.length + i] = expected(x[i], y[j]);
+			}
+		}
+	}
+
+	@Test
+	public void testSmoothFunction() {
+		testInterpolation(BicubicInterpolation.interpolate(x, y, z, false));
+	}
+
+	@Test
+	public void testSmoothFunctionPrecomputed() {
+		testInterpolation(BicubicInterpolation.interpolate(x, y, z, true));
+	}
+
+	private void testInterpolation(TwoVariableFunction interpolation) {
+		for (int j = 0; j < y.length; j++) {
+			for (int i = 0; i < x.length; i++) {
+				assertEquals(z[j * x.length + i], interpolation.eval(x[i], y[j]), 1e-12);
+			}
+		}
+		double[] xs = new double[500];
+		double[] ys = new double[xs.length];
+		double[] out = new double[xs.length];
+		for (int k = 0; k < xs.length; k++) {
+			xs[k] = x[0] + (x[x.length - 1] - x[0]) * k / xs.length;
+			ys[k] = y[0] + (y[y.length - 1] - y[0]) * ((k * 7) % xs.length) / xs.length;
+		}
+		TwoVariableFunctions.eval(interpolation, xs, ys, out, 0, xs.length);
+		for (int k = 0; k < xs.length; k++) {
+			testAssertEquals(expected(xs[k], ys[k]), interpolation.eval(xs[k], ys[k]));
+			testAssertEquals(expected(xs[k], ys[k]), out[k]);
+		}
+	}
+
+	private static double expected(double x, double y) {
+		return Math.sin(x) * Math.cos(y) + x * y / 10;
+	}
+	
+	private void testAssertEquals(double expected, double actual) {
+		assertEquals("The value founded was not the expected", expected, actual, ERROR);
+	}
+
+	private static double[] range(double first, double last, int n, double jitter) {
+		double[] values = new double[n];
+		for (int i = 0; i < n; i++) {
+			values[i] = first + (last - first) * i / (n - 1) + (i > 0 && i < n - 1 ? jitter * Math.sin(i) : 0);
+		}
+		return values;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		Object[][] parameters = new Object[][] {{range(0, 3, 121, 0), range(-1, 2, 101, 0)},
+												{range(0, 3, 121, 0.005), range(-1, 2, 101, 0.005)}};
+		return Arrays.asList(parameters);
+	}
+}
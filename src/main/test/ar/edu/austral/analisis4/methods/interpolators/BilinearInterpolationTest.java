@@ -0,0 +1,72 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.TwoVariableFunction;
+import ar.edu.austral.analisis4.functions.TwoVariableFunctions;
+
+@RunWith(value = Parameterized.class)
+public class BilinearInterpolationTest {
+
+	private static final double ERROR = 0.000001;
+
+	private TwoVariableFunction interpolation;
+	
+	public BilinearInterpolationTest(TwoVariableFunction interpolation) {
+		this.interpolation = interpolation;
+	}
+
+	@Test
+	public void testBilinearFunctionIsReproduced() {
+		double[] xs = new double[200];
+		double[] ys = new double[xs.length];
+		double[] out = new double[xs.length];
+		for (int k = 0; k < xs.length; k++) {
+			xs[k] = -1 + k * 0.04;
+			ys[k] = 5 - k * 0.037;
+		}
+		TwoVariableFunctions.eval(interpolation, xs, ys, out, 0, xs.length);
+		for (int k = 0; k < xs.length; k++) {
+			testAssertEquals(expected(xs[k], ys[k]), interpolation.eval(xs[k], ys[k]));
+			testAssertEquals(expected(xs[k], ys[k]), out[k]);
+		}
+	}
+
+	private static double expected(double x, double y) {
+		return 2 + 3 * x - y + 0.5 * x * y;
+	}
+	
+	private void testAssertEquals(double expected, double actual) {
+		assertEquals("The value founded was not the expected", expected, actual, ERROR);
+	}
+
+	private static double[] sample(double[] x, double[] y) {
+		double[] z = new double[x.length * y.length];
+		for (int j = 0; j < y.length; j++) {
+			for (int i = 0; i < x.length; i++) {
+				z[j * x.length + i] = expected(x[i], y[j]);
+			}
+		}
+		return z;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		double[] x = {0, 0.5, 2, 2.5, 6};
+		double[] y = {0, 1, 1.5, 4};
+		double[] uniformX = {0, 1, 2, 3, 4, 5};
+		double[] uniformY = {0, 0.5, 1, 1.5, 2, 2.5, 3};
+		Object[][] parameters = new Object[][] {{BilinearInterpolation.interpolate(x, y, sample(x, y))},
+												{BilinearInterpolation.interpolate(uniformX, uniformY, sample(uniformX, uniformY))},
+												{BilinearInterpolation.interpolateUniform(0, 1, 6, 0, 0.5, sample(uniformX, uniformY))}};
+		return Arrays.asList(parameters);
+	}
+}
@@ -0,0 +1,97 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class CubicSplineFamilyTest {
+
+	private static final double ERROR = 0.000000001;
+
+	private double[] x;
+	private double[][] ys;
+	
+	public CubicSplineFamilyTest(int knots, int series) {
+		x = new double[knots];
+		ys = new double[series][knots];
+		for (int i = 0; i < knots; i++) {
+			x[i] = i + 0.3 * Math.sin(i);
+			for (int s = 0; s < series; s++) {
+				ys[s][i] = Math.cos(x[i] * (s + 1) / 10) * s;
+			}
+		}
+	}
+
+	@Test
+	public void testSameAsCubicSpline() {
+		testFamily(CubicSplineFamily.interpolate(x, ys));
+	}
+
+	@Test
+	public void testSameAsCubicSplineInParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			testFamily(CubicSplineFamily.interpolate(x, ys, pool));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testSerialAboveTaskGrain() {
+		// 2000 knots by 40 series is over the grain of a task: without a pool the family must be solved
+		// in the calling thread, without forking
+		double[] knots = new double[2000];
+		double[][] values = new double[40][knots.length];
+		for (int i = 0; i < knots.length; i++) {
+			knots[i] = i;
+			for (int s = 0; s < values.length; s++) {
+				values[s][i] = Math.sin(i * (s + 1) / 100.0);
+			}
+		}
+		CubicSplineFamily family = CubicSplineFamily.interpolate(knots, values);
+		for (int s = 0; s < values.length; s += 13) {
+			CubicSpline spline = CubicSpline.interpolate(knots, values[s]);
+			for (double v = 0; v <= knots.length - 1; v += 97.5) {
+				testAssertEquals(spline.eval(v), family.eval(s, v));
+			}
+		}
+	}
+
+	private void testFamily(CubicSplineFamily family) {
+		double[] out = new double[ys.length];
+		OneVariableFunction[] splines = new OneVariableFunction[ys.length];
+		for (int s = 0; s < ys.length; s++) {
+			splines[s] = CubicSpline.interpolate(x, ys[s]);
+		}
+		for (double v = x[0]; v <= x[x.length - 1]; v += 0.37) {
+			family.eval(v, out);
+			for (int s = 0; s < ys.length; s++) {
+				OneVariableFunction spline = splines[s];
+				testAssertEquals(spline.eval(v), family.eval(s, v));
+				testAssertEquals(spline.eval(v), family.get(s).eval(v));
+				testAssertEquals(spline.eval(v), out[s]);
+			}
+		}
+	}
+	
+	private void testAssertEquals(double expected, double actual) {
+		assertEquals("The value founded was not the expected", expected, actual, ERROR);
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		Object[][] parameters = new Object[][] {{2, 3}, {7, 1}, {50, 40}, {3000, 40}};
+		return Arrays.asList(parameters);
+	}
+}
@@ -14,7 +14,9 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import ar.edu.austral.analisis4.definiteIntegral.resolvers.Romberg;
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
 
 @RunWith(value = Parameterized.class)
 public class CubicSplineTest {
@@ -40,7 +42,55 @@ public class CubicSplineTest {
     	}
     	printResult(function);
 	}
-	
+
+	@Test
+	public void testCubicSplineFromArraysInReverseOrder() {
+		double[] x = new double[points.size()];
+		double[] y = new double[points.size()];
+		for (int i = 0; i < x.length; i++) {
+			x[i] = points.get(i).x;
+			y[i] = points.get(i).y;
+		}
+		OneVariableFunction function = CubicSpline.interpolate(x, y);
+
+		for (int i = xValues.length - 1; i >= 0; i--) {
+			testAssertEquals(yValues[i], function.eval(xValues[i]));
+		}
+	}
+
+	@Test
+	public void testCubicSplineBulk() {
+		OneVariableFunction function = CubicSpline.interpolate(points);
+		double[] out = new double[xValues.length];
+		OneVariableFunctions.eval(function, xValues, out, 0, xValues.length);
+		for (int i = 0; i < xValues.length; i++) {
+			testAssertEquals(yValues[i], out[i]);
+		}
+	}
+
+	@Test
+	public void testCubicSplineDerivativesAndIntegral() {
+		CubicSpline spline = CubicSpline.interpolate(points);
+		OneVariableFunction derivative = spline.derivative();
+		OneVariableFunction secondDerivative = spline.secondDerivative();
+		OneVariableFunction cumulative = spline.cumulativeIntegral();
+		double first = xValues[0];
+		double last = xValues[xValues.length - 1];
+		double h = 0.00001;
+
+		for (int i = 1; i < xValues.length - 1; i++) {
+			double x = xValues[i] + 0.5;
+			testAssertEquals((spline.eval(x + h) - spline.eval(x - h)) / (2 * h), derivative.eval(x));
+			testAssertEquals((derivative.eval(x + h) - derivative.eval(x - h)) / (2 * h), secondDerivative.eval(x));
+			testAssertEquals(Romberg.romberg(spline, first, x, 12), spline.integral(first, x));
+			testAssertEquals(spline.integral(first, x), cumulative.eval(x));
+		}
+		testAssertEquals(0, secondDerivative.eval(first));
+		testAssertEquals(0, secondDerivative.eval(last));
+		testAssertEquals(Romberg.romberg(spline, first, last, 12), spline.integral(first - 10, last + 10));
+		testAssertEquals(-spline.integral(first, last), spline.integral(last, first));
+	}
+
 	private void printResult(OneVariableFunction function) {
 		for (int i = 0; i < xValues.length; i++) {
 			double x = xValues[i];
@@ -1,6 +1,8 @@
 package ar.edu.austral.analisis4.methods.interpolators;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -15,6 +17,7 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
 
 @RunWith(value = Parameterized.class)
 public class LinearInterpolationTest {
@@ -38,6 +41,50 @@ public class LinearInterpolationTest {
         printResult(interpolation);
     }
     
+    @Test
+    public void testLinearInterpolatorBulk(){
+    	OneVariableFunction interpolation = LinearInterpolation.interpolate(points);
+    	double[] xs = {6, 0, 1, 2, 3, 4, 5};
+    	double[] out = new double[xs.length];
+    	OneVariableFunctions.eval(interpolation, xs, out, 0, xs.length);
+    	for(int i = 0; i<xs.length; i++) {
+    		testAssertEquals(expectedFunction.eval(xs[i]), out[i]);
+    	}
+    }
+    
+    @Test
+    public void testUniformGrid(){
+    	double[] x = {0, 1, 2, 3, 4, 5};
+    	double[] y = {0, 2, 4, 2, 0, 8};
+    	LinearInterpolation detected = LinearInterpolation.interpolate(x, y);
+    	LinearInterpolation declared = LinearInterpolation.interpolateUniform(0, 1, y);
+    	assertTrue("The grid was not detected as uniform", detected.isUniform());
+    	assertFalse("The grid was detected as uniform", LinearInterpolation.interpolate(points).isUniform());
+    	double[] xs = {-1, 0, 0.5, 2, 3.25, 5, 6};
+    	double[] expected = {-2, 0, 1, 4, 1.5, 8, 16};
+    	double[] out = new double[xs.length];
+    	declared.eval(xs, out, 0, xs.length);
+    	for(int i = 0; i<xs.length; i++) {
+    		testAssertEquals(expected[i], detected.eval(xs[i]));
+    		testAssertEquals(expected[i], declared.eval(xs[i]));
+    		testAssertEquals(expected[i], out[i]);
+    	}
+    }
+    
+    @Test
+    public void testUnevenGridWithLargeOffset(){
+    	// epoch milliseconds: the spacing is tiny next to the magnitude of the knots
+    	double b = 1.7e12;
+    	double[] x = {b, b + 1, b + 3, b + 4};
+    	double[] y = {0, 0, 10, 10};
+    	LinearInterpolation interpolation = LinearInterpolation.interpolate(x, y);
+    	assertFalse("The grid was detected as uniform", interpolation.isUniform());
+    	testAssertEquals(8.75, interpolation.eval(b + 2.75));
+    	testAssertEquals(5, interpolation.eval(b + 2));
+    	double[] shifted = {b, b + 1, b + 2, b + 3};
+    	assertTrue("The grid was not detected as uniform", LinearInterpolation.interpolate(shifted, y).isUniform());
+    }
+    
     private void testAssertEquals(double expected, double actual) {
     	assertEquals("The index founded was not the expected", expected, actual, ERROR);
 	}
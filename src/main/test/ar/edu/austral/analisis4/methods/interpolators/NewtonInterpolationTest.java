@@ -15,6 +15,7 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunctions;
 
 @RunWith(value = Parameterized.class)
 public class NewtonInterpolationTest {
@@ -38,6 +39,31 @@ public class NewtonInterpolationTest {
         printResult(interpolation);
     }
 	
+	@Test
+	public void testNewtonInterpolatorBulk(){
+		OneVariableFunction interpolation = NewtonInterpolation.interpolate(points);
+		double[] xs = {0, 1, 2, 3, 4, 5, 6};
+		double[] out = new double[xs.length];
+		OneVariableFunctions.eval(interpolation, xs, out, 0, xs.length);
+		for(int i = 0; i<xs.length; i++) {
+			testAssertEquals(expectedFunction.eval(xs[i]), out[i]);
+		}
+	}
+	
+	@Test
+	public void testNewtonInterpolatorAddPoint(){
+		NewtonInterpolation interpolation = new NewtonInterpolation(1);
+		for(int i = 0; i<points.size(); i++) {
+			interpolation.addPoint(points.get(i).x, points.get(i).y);
+			for(int j = 0; j<=i; j++) {
+				testAssertEquals(points.get(j).y, interpolation.eval(points.get(j).x));
+			}
+		}
+		for(int i = 0; i<7; i++) {
+			testAssertEquals(expectedFunction.eval(i), interpolation.eval(i));
+		}
+	}
+	
 	private void testAssertEquals(double expected, double actual) {
     	assertEquals("The index founded was not the expected", expected, actual, ERROR);
 	}
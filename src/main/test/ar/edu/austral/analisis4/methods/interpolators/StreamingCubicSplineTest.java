@@ -0,0 +1,58 @@
+package ar.edu.austral.analisis4.methods.interpolators;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class StreamingCubicSplineTest {
+
+	private static final double ERROR = 0.00000001;
+
+	private int samples;
+	private int capacity;
+	
+	public StreamingCubicSplineTest(int samples, int capacity) {
+		this.samples = samples;
+		this.capacity = capacity;
+	}
+
+	@Test
+	public void testSameAsCubicSpline() {
+		double[] x = new double[samples];
+		double[] y = new double[samples];
+		StreamingCubicSpline streaming = new StreamingCubicSpline(capacity);
+		for (int i = 0; i < samples; i++) {
+			x[i] = i * 0.1 + 0.01 * Math.sin(i);
+			y[i] = Math.sin(x[i]) + x[i] * x[i] / 10;
+			streaming.append(x[i], y[i]);
+		}
+		OneVariableFunction spline = CubicSpline.interpolate(x, y);
+		OneVariableFunction snapshot = streaming.snapshot();
+		int first = Math.max(0, samples - capacity);
+		for (double v = x[first]; v <= x[samples - 1]; v += 0.013) {
+			testAssertEquals(spline.eval(v), streaming.eval(v));
+			testAssertEquals(spline.eval(v), snapshot.eval(v));
+		}
+		testAssertEquals(0, streaming.eval(x[first] - 1));
+		testAssertEquals(0, streaming.eval(x[samples - 1] + 1));
+	}
+	
+	private void testAssertEquals(double expected, double actual) {
+		assertEquals("The value founded was not the expected", expected, actual, ERROR);
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		Object[][] parameters = new Object[][] {{10, 100}, {200, 500}, {1000, 40}};
+		return Arrays.asList(parameters);
+	}
+}
@@ -0,0 +1,115 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.exceptions.RootNotFoundException;
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+import ar.edu.austral.analisis4.functions.ParameterizedFunction;
+
+@RunWith(value = Parameterized.class)
+public class BatchRootFinderTest {
+
+	private static final ParameterizedFunction FUNCTION = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return Math.pow(x, 3) + 4 * Math.pow(x, 2) - p;
+		}
+	};
+
+	private static final ParameterizedFunction DERIVED_FUNCTION = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return 3 * Math.pow(x, 2) + 8 * x;
+		}
+	};
+
+	private int lanes;
+	private int iterations;
+	private ForkJoinPool pool;
+	
+	public BatchRootFinderTest(int lanes, int iterations, ForkJoinPool pool) {
+		this.lanes = lanes;
+		this.iterations = iterations;
+		this.pool = pool;
+	}
+
+	@Test
+	public void testBisection() {
+		double[] parameters = parameters();
+		double[] a = new double[lanes];
+		double[] b = new double[lanes];
+		Arrays.fill(a, 0.5);
+		Arrays.fill(b, 4);
+		BatchRootResult result = BatchRootFinder.bisection(FUNCTION, parameters, a, b, 0.0001, iterations, pool);
+		for (int i = 0; i < lanes; i++) {
+			try {
+				double root = Bisection.findRoot(member(parameters[i]), 0.5, 4, 0.0001, iterations);
+				assertEquals(RootStatus.CONVERGED, result.status()[i]);
+				assertEquals(root, result.roots()[i], 0);
+			} catch (RootNotFoundException e) {
+				assertEquals(RootStatus.MAX_ITERATIONS, result.status()[i]);
+				assertEquals(iterations, result.iterations()[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testNewtonRaphson() {
+		double[] parameters = parameters();
+		double[] p0 = new double[lanes];
+		Arrays.fill(p0, 2);
+		BatchRootResult result = BatchRootFinder.newtonRaphson(FUNCTION, DERIVED_FUNCTION, parameters, p0, 0.00001,
+				iterations, pool);
+		for (int i = 0; i < lanes; i++) {
+			try {
+				double root = NewtonRaphson.findRoot(member(parameters[i]), derivedMember(parameters[i]), 2, 0.00001,
+						iterations);
+				assertEquals(RootStatus.CONVERGED, result.status()[i]);
+				assertEquals(root, result.roots()[i], 0);
+			} catch (RootNotFoundException e) {
+				if (result.status()[i] == RootStatus.CONVERGED) {
+					fail("Lane " + i + " converged");
+				}
+			}
+		}
+	}
+
+	private double[] parameters() {
+		double[] parameters = new double[lanes];
+		for (int i = 0; i < lanes; i++) {
+			parameters[i] = 5 + 70.0 * i / lanes;
+		}
+		return parameters;
+	}
+
+	private static OneVariableFunction member(final double p) {
+		return new OneVariableFunction() {
+			public double eval(double x) {
+				return FUNCTION.eval(x, p);
+			}
+		};
+	}
+
+	private static OneVariableFunction derivedMember(final double p) {
+		return new OneVariableFunction() {
+			public double eval(double x) {
+				return DERIVED_FUNCTION.eval(x, p);
+			}
+		};
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		Object[][] parameters = new Object[][] {{1, 20, null}, {5000, 20, null}, {5000, 20, pool}, {3000, 5, pool}};
+		return Arrays.asList(parameters);
+	}
+}
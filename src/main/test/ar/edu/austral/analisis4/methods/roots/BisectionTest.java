@@ -1,6 +1,7 @@
 package ar.edu.austral.analisis4.methods.roots;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
@@ -12,6 +13,7 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import ar.edu.austral.analisis4.exceptions.RootNotFoundException;
+import ar.edu.austral.analisis4.functions.CountingFunction;
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
 
 @RunWith(value = Parameterized.class)
@@ -80,4 +82,22 @@ public class BisectionTest {
 			}
 		}
 	}
+
+	@Test
+	public void calculateTestSolve(){
+		RootResult result = new RootResult();
+		CountingFunction counting = new CountingFunction(function);
+		int status = Bisection.solve(counting, a, b, error, iterations, result);
+		assertEquals("The evaluations were not the expected", counting.getEvaluations(), result.evaluations());
+		System.out.println("Function: " + functionString + "\n Result: " + result);
+		if(functionString.equalsIgnoreCase("Function will Fail")){
+			assertEquals("The status was not the expected", RootStatus.MAX_ITERATIONS, status);
+			assertEquals("The iterations were not the expected", iterations, result.iterations());
+		}else{
+			assertEquals("The status was not the expected", RootStatus.CONVERGED, status);
+			assertEquals("The root founded was not the expected", Bisection.findRoot(function, a, b, error, iterations), result.root(), 0);
+			assertEquals("The residual was not the expected", function.eval(result.root()), result.residual(), 0);
+			assertTrue("Too many iterations", result.iterations() <= iterations);
+		}
+	}
 }
@@ -0,0 +1,108 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.exceptions.RootNotFoundException;
+import ar.edu.austral.analisis4.functions.CountingFunction;
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class BrentTest {
+	
+	private OneVariableFunction function;
+	private String functionString;
+	private double expected;
+	private double a;
+	private double b;
+	private double error;
+	private int iterations;
+	
+	public BrentTest(OneVariableFunction function, String functionString,
+			 double a, double b, double error, int iterations, double expected) {
+		super();
+		this.function = function;
+		this.functionString = functionString;
+		this.a = a;
+		this.b = b;
+		this.error = error;
+		this.iterations = iterations;
+		this.expected = expected;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//Function 1
+    	final OneVariableFunction f1 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.pow(Math.E, -x) - Math.log(x) / Math.log(Math.E);
+            }
+        };
+        final String f1String = "e^(-x) - ln x";
+        double expectedRoot1 = 1.309799585804;
+        
+        //Function 2
+    	final OneVariableFunction f2 = new OneVariableFunction(){
+            public double eval(double x){
+                return  Math.pow(x,3) + 4 * Math.pow(x,2) - 10;
+            }
+        };
+        final String f2String = "x^3 + 4x^2 - 10";
+        double expectedRoot2 = 1.365230013414;
+        
+        final String f3String = "Function will Fail";
+        
+        Object[][] parameters = new Object[][] {{f1 , f1String, 1, 2, 0.0000001, 50, expectedRoot1}, 
+        										{f2, f2String, 1, 1.5, 0.0000001, 50, expectedRoot2},
+        										{f2, f3String, 1.5, 2, 0.0000001, 50, expectedRoot2},
+        										{f2, f3String, 1, 1.5, 0.0000001, 2, expectedRoot2}};    
+    	return Arrays.asList(parameters);
+    }
+	
+	@Test
+	public void calculateTest(){
+		try {
+			CountingFunction counting = new CountingFunction(function);
+			double calculateRoot =  Brent.findRoot(counting, a, b, error, iterations);
+			long evaluations = counting.getEvaluations();
+			counting.reset();
+			Bisection.findRoot(counting, a, b, error, 100);
+			System.out.println("Function: " + functionString + "\n Calculated root: " + calculateRoot + " Expected Root: " + expected
+					+ "\n Evaluations: " + evaluations + " Bisection evaluations: " + counting.getEvaluations());
+			assertEquals("The root founded was not the expected", expected, calculateRoot, error);
+			assertTrue("Brent used more evaluations than Bisection", 3 * evaluations < counting.getEvaluations());
+		} catch (RootNotFoundException e) {
+			if(!functionString.equalsIgnoreCase("Function will Fail")){
+				e.printStackTrace();
+				fail("Root Not Found Exception thrown");
+			}else{
+				System.out.println("OK: Root Not Found Exception expected and thrown");
+			}
+		}
+	}
+
+	@Test
+	public void calculateTestSolve(){
+		RootResult result = new RootResult();
+		CountingFunction counting = new CountingFunction(function);
+		int status = Brent.solve(counting, a, b, error, iterations, result);
+		assertEquals("The evaluations were not the expected", counting.getEvaluations(), result.evaluations());
+		System.out.println("Function: " + functionString + "\n Result: " + result);
+		if(functionString.equalsIgnoreCase("Function will Fail")){
+			assertTrue("The status was not the expected", status == RootStatus.NO_BRACKET || status == RootStatus.MAX_ITERATIONS);
+		}else{
+			assertEquals("The status was not the expected", RootStatus.CONVERGED, status);
+			assertEquals("The root founded was not the expected", Brent.findRoot(function, a, b, error, iterations), result.root(), 0);
+			assertEquals("The residual was not the expected", function.eval(result.root()), result.residual(), 0);
+		}
+	}
+}
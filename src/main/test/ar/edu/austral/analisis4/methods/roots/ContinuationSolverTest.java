@@ -0,0 +1,115 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.ParameterizedFunction;
+
+@RunWith(value = Parameterized.class)
+public class ContinuationSolverTest {
+
+	private static final double ERROR = 0.0000000001;
+
+	private static final ParameterizedFunction FUNCTION = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return Math.pow(x, 3) + 4 * Math.pow(x, 2) - p;
+		}
+	};
+
+	private static final ParameterizedFunction DERIVED_FUNCTION = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return 3 * Math.pow(x, 2) + 8 * x;
+		}
+	};
+
+	// Newton diverges on atan(x - p) when it starts farther than about 1.39 from the root
+	private static final ParameterizedFunction ATAN = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			return Math.atan(x - p);
+		}
+	};
+
+	private static final ParameterizedFunction DERIVED_ATAN = new ParameterizedFunction() {
+		public double eval(double x, double p) {
+			double t = x - p;
+			return 1 / (1 + t * t);
+		}
+	};
+
+	private int steps;
+
+	public ContinuationSolverTest(int steps) {
+		this.steps = steps;
+	}
+
+	@Parameters
+	public static Collection<Object[]> data() {
+		Object[][] parameters = new Object[][] { { 1000 }, { 10000 } };
+		return Arrays.asList(parameters);
+	}
+
+	private double[] parameters(double from, double to) {
+		double[] parameters = new double[steps];
+		for (int i = 0; i < steps; i++) {
+			parameters[i] = from + (to - from) * i / (steps - 1);
+		}
+		return parameters;
+	}
+
+	@Test
+	public void testSweep() {
+		double[] parameters = parameters(5, 100);
+		BatchRootResult result = ContinuationSolver.solve(FUNCTION, DERIVED_FUNCTION, parameters, 2, 0, 10, ERROR, 50);
+		double[] p0 = new double[steps];
+		Arrays.fill(p0, 2);
+		double[] a = new double[steps];
+		double[] b = new double[steps];
+		Arrays.fill(b, 10);
+		BatchRootResult newton = BatchRootFinder.newtonRaphson(FUNCTION, DERIVED_FUNCTION, parameters, p0, ERROR, 50);
+		BatchRootResult bisection = BatchRootFinder.bisection(FUNCTION, parameters, a, b, ERROR, 100);
+		assertTrue(result.allConverged());
+		long total = 0;
+		long newtonTotal = 0;
+		long bisectionTotal = 0;
+		for (int i = 0; i < steps; i++) {
+			assertTrue("The root founded was not the expected", Math.abs(FUNCTION.eval(result.roots()[i], parameters[i])) < ERROR);
+			assertEquals("The root founded was not the expected", newton.roots()[i], result.roots()[i], 0.000001);
+			total += result.iterations()[i];
+			newtonTotal += newton.iterations()[i];
+			bisectionTotal += bisection.iterations()[i];
+		}
+		System.out.println("Steps: " + steps + " Iterations: " + total + " Cold start iterations: Newton " + newtonTotal
+				+ ", Bisection " + bisectionTotal);
+		assertTrue("The continuation did not save iterations", 3 * total < newtonTotal);
+		assertTrue("The continuation did not save iterations", 10 * total < bisectionTotal);
+	}
+
+	@Test
+	public void testFallback() {
+		double[] parameters = parameters(0, 5);
+		// the first step starts 3 away from the root: Newton diverges and Brent finds it
+		BatchRootResult result = ContinuationSolver.solve(ATAN, DERIVED_ATAN, parameters, 3, -10, 20, ERROR, 50);
+		assertTrue(result.allConverged());
+		for (int i = 0; i < steps; i++) {
+			assertEquals("The root founded was not the expected", parameters[i], result.roots()[i], 0.000001);
+		}
+	}
+
+	@Test
+	public void testNoBracket() {
+		double[] parameters = parameters(30, 40);
+		BatchRootResult result = ContinuationSolver.solve(ATAN, DERIVED_ATAN, parameters, 0, -10, 20, ERROR, 50);
+		for (int i = 0; i < steps; i++) {
+			assertEquals(RootStatus.NO_BRACKET, result.status()[i]);
+			assertEquals(20, result.roots()[i], 0);
+		}
+	}
+}
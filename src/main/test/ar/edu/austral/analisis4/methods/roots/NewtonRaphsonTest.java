@@ -1,6 +1,7 @@
 package ar.edu.austral.analisis4.methods.roots;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
@@ -12,6 +13,10 @@ import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
 import ar.edu.austral.analisis4.exceptions.RootNotFoundException;
+import ar.edu.austral.analisis4.functions.CountingFunction;
+import ar.edu.austral.analisis4.functions.DifferentiableFunction;
+import ar.edu.austral.analisis4.functions.Dual;
+import ar.edu.austral.analisis4.functions.DualFunction;
 import ar.edu.austral.analisis4.functions.OneVariableFunction;
 
 @RunWith(value = Parameterized.class)
@@ -19,17 +24,19 @@ public class NewtonRaphsonTest {
 	
 	private OneVariableFunction function;
 	private OneVariableFunction derivedFunction;
+	private DualFunction dualFunction;
 	private String functionString;
 	private double initp;
 	private double error;
 	private int maxIter;
 	private double expectedRoot;
 	
-	public NewtonRaphsonTest(OneVariableFunction function, OneVariableFunction derivedFunction, String functionString,
-			double initp, double error, int maxIter, double expectedRoot) {
+	public NewtonRaphsonTest(OneVariableFunction function, OneVariableFunction derivedFunction, DualFunction dualFunction,
+			String functionString, double initp, double error, int maxIter, double expectedRoot) {
 		super();
 		this.function = function;
 		this.derivedFunction = derivedFunction;
+		this.dualFunction = dualFunction;
 		this.functionString = functionString;
 		this.initp = initp;
 		this.error = error;
@@ -51,6 +58,14 @@ public class NewtonRaphsonTest {
             	return -1 * Math.sin(x) - 3 * Math.pow(x, 2);
             }
         };
+        //Dual Function 1
+    	final DualFunction dualf1 = new DualFunction(){
+    		private final Dual cube = new Dual();
+            public void eval(Dual x, Dual result){
+            	cube.pow(x, 3);
+            	result.cos(x).subtract(result, cube);
+            }
+        };
         final String f1String = "cos(x) - x^3";
         double expectedRoot1 = 0.865474033111;
         
@@ -66,14 +81,20 @@ public class NewtonRaphsonTest {
             	return 8 * x;
             }
         };
+        //Dual Function 2
+    	final DualFunction dualf2 = new DualFunction(){
+            public void eval(Dual x, Dual result){
+            	result.multiply(x, x).multiply(result, 4).subtract(result, 10);
+            }
+        };
         final String f2String = "4x^2 - 10";
         double expectedRoot2 = 1.58113883;
         
         final String failString = "Function will Fail";
         
-        Object[][] parameters = new Object[][] {{f1, derivedf1, f1String, 0.5, 0.00001, 6, expectedRoot1},
-        										{f2, derivedf2, f2String, 1.5, 0.00001, 6, expectedRoot2},
-        										{f1, derivedf1, failString, 0.5, 0.00001, 3, expectedRoot1}};    
+        Object[][] parameters = new Object[][] {{f1, derivedf1, dualf1, f1String, 0.5, 0.00001, 6, expectedRoot1},
+        										{f2, derivedf2, dualf2, f2String, 1.5, 0.00001, 6, expectedRoot2},
+        										{f1, derivedf1, dualf1, failString, 0.5, 0.00001, 3, expectedRoot1}};    
     	return Arrays.asList(parameters);
     }
 	
@@ -92,4 +113,57 @@ public class NewtonRaphsonTest {
 			}
 		}
 	}
+
+	@Test
+	public void calculateTestDifferentiable(){
+		DifferentiableFunction differentiable = new DifferentiableFunction() {
+			public void eval(double x, double[] result) {
+				result[0] = function.eval(x);
+				result[1] = derivedFunction.eval(x);
+			}
+		};
+		try {
+			double calculateRoot =  NewtonRaphson.findRoot(differentiable, initp, error, maxIter);
+			assertEquals("The root founded was not the expected", NewtonRaphson.findRoot(function, derivedFunction, initp, error, maxIter), calculateRoot, 0);
+			assertEquals("The root founded was not the expected", expectedRoot, calculateRoot, 0.00001);
+		} catch (RootNotFoundException e) {
+			if(!functionString.equalsIgnoreCase("Function will Fail")){
+				e.printStackTrace();
+				fail("Root Not Found Exception thrown");
+			}
+		}
+	}
+
+	@Test
+	public void calculateTestDual(){
+		try {
+			double calculateRoot =  NewtonRaphson.findRootDual(dualFunction, initp, error, maxIter);
+			System.out.println("Function: " + functionString + "\n Calculated root (dual): " + calculateRoot + " Expected Root: " + expectedRoot);
+			assertEquals("The root founded was not the expected", expectedRoot, calculateRoot, 0.00001);
+		} catch (RootNotFoundException e) {
+			if(!functionString.equalsIgnoreCase("Function will Fail")){
+				e.printStackTrace();
+				fail("Root Not Found Exception thrown");
+			}
+		}
+	}
+
+	@Test
+	public void calculateTestSolve(){
+		RootResult result = new RootResult();
+		CountingFunction counting = new CountingFunction(function);
+		int status = NewtonRaphson.solve(counting, derivedFunction, initp, error, maxIter, result);
+		assertEquals("The evaluations were not the expected", counting.getEvaluations(), result.evaluations());
+		System.out.println("Function: " + functionString + "\n Result: " + result);
+		if(functionString.equalsIgnoreCase("Function will Fail")){
+			assertEquals("The status was not the expected", RootStatus.MAX_ITERATIONS, status);
+			assertEquals("The iterations were not the expected", maxIter - 1, result.iterations());
+		}else{
+			assertEquals("The status was not the expected", RootStatus.CONVERGED, status);
+			assertEquals("The root founded was not the expected", NewtonRaphson.findRoot(function, derivedFunction, initp, error, maxIter), result.root(), 0);
+			assertTrue("The residual was not the expected", Math.abs(result.residual()) < error);
+		}
+		NewtonRaphson.solveDual(dualFunction, initp, error, maxIter, result);
+		assertEquals("The status was not the expected", status, result.status());
+	}
 }
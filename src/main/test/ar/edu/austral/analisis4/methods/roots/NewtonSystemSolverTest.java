@@ -0,0 +1,149 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.DifferentiableVectorFunction;
+import ar.edu.austral.analisis4.functions.VectorFunction;
+
+@RunWith(value = Parameterized.class)
+public class NewtonSystemSolverTest {
+
+	private static final double ERROR = 0.0000000001;
+
+	private DifferentiableVectorFunction function;
+	private String functionString;
+	private double[] start;
+	private int maxIterations;
+
+	public NewtonSystemSolverTest(DifferentiableVectorFunction function, String functionString, double[] start,
+			int maxIterations) {
+		super();
+		this.function = function;
+		this.functionString = functionString;
+		this.start = start;
+		this.maxIterations = maxIterations;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//System 1
+    	final DifferentiableVectorFunction f1 = new DifferentiableVectorFunction(){
+            public void eval(double[] x, double[] out){
+            	out[0] = x[0] * x[0] + x[1] * x[1] - 4;
+            	out[1] = Math.exp(x[0]) + x[1] - 1;
+            }
+            public void jacobian(double[] x, double[] out){
+            	out[0] = 2 * x[0];
+            	out[1] = 2 * x[1];
+            	out[2] = Math.exp(x[0]);
+            	out[3] = 1;
+            }
+        };
+        final String f1String = "x^2 + y^2 - 4, e^x + y - 1";
+
+        //System 2: Broyden tridiagonal function
+    	final DifferentiableVectorFunction f2 = new DifferentiableVectorFunction(){
+            public void eval(double[] x, double[] out){
+            	int n = x.length;
+            	for (int i = 0; i < n; i++) {
+            		double previous = i > 0 ? x[i - 1] : 0;
+            		double next = i < n - 1 ? x[i + 1] : 0;
+            		out[i] = (3 - 2 * x[i]) * x[i] - previous - 2 * next + 1;
+            	}
+            }
+            public void jacobian(double[] x, double[] out){
+            	int n = x.length;
+            	Arrays.fill(out, 0);
+            	for (int i = 0; i < n; i++) {
+            		out[i * n + i] = 3 - 4 * x[i];
+            		if (i > 0) {
+            			out[i * n + i - 1] = -1;
+            		}
+            		if (i < n - 1) {
+            			out[i * n + i + 1] = -2;
+            		}
+            	}
+            }
+        };
+        final String f2String = "(3 - 2x_i) x_i - x_(i-1) - 2x_(i+1) + 1";
+        double[] start2 = new double[100];
+        Arrays.fill(start2, -1);
+
+        Object[][] parameters = new Object[][] {{f1, f1String, new double[] {-2, 1}, 50},
+        										{f1, f1String, new double[] {1, -1.5}, 50},
+        										{f2, f2String, start2, 50}};
+    	return Arrays.asList(parameters);
+    }
+
+	@Test
+	public void calculateTest(){
+		NewtonSystemSolver solver = new NewtonSystemSolver(start.length);
+		double[] jacobian = start.clone();
+		int status = solver.solve(function, jacobian, ERROR, maxIterations);
+		System.out.println("System: " + functionString + "\n Iterations (Jacobian): " + solver.iterations()
+				+ " Residual: " + solver.residual());
+		assertEquals("The status was not the expected", RootStatus.CONVERGED, status);
+		assertTrue("The residual was not the expected", residual(jacobian) < ERROR);
+
+		double[] differences = start.clone();
+		status = solver.solve((VectorFunction) function, differences, ERROR, maxIterations);
+		System.out.println(" Iterations (differences): " + solver.iterations() + " Evaluations: " + solver.evaluations());
+		assertEquals("The status was not the expected", RootStatus.CONVERGED, status);
+		assertRootEquals(jacobian, differences);
+
+		double[] broyden = start.clone();
+		status = solver.solveBroyden(function, broyden, ERROR, maxIterations);
+		System.out.println(" Iterations (Broyden): " + solver.iterations() + " Evaluations: " + solver.evaluations());
+		assertEquals("The status was not the expected", RootStatus.CONVERGED, status);
+		assertTrue("The residual was not the expected", solver.residual() < ERROR);
+		assertRootEquals(jacobian, broyden);
+	}
+
+	@Test
+	public void calculateTestReuse(){
+		NewtonSystemSolver solver = new NewtonSystemSolver(start.length);
+		double[] first = start.clone();
+		solver.solveBroyden(function, first, ERROR, maxIterations);
+		int iterations = solver.iterations();
+		double[] second = start.clone();
+		solver.solveBroyden(function, second, ERROR, maxIterations);
+		assertEquals("The iterations were not the expected", iterations, solver.iterations());
+		assertEquals("The root founded was not the expected", Arrays.toString(first), Arrays.toString(second));
+		// starting on the root needs no iteration
+		solver.solve(function, second, ERROR, maxIterations);
+		assertEquals("The iterations were not the expected", 0, solver.iterations());
+	}
+
+	@Test
+	public void calculateTestMaxIterations(){
+		NewtonSystemSolver solver = new NewtonSystemSolver(start.length);
+		double[] x = start.clone();
+		assertEquals("The status was not the expected", RootStatus.MAX_ITERATIONS, solver.solve(function, x, ERROR, 1));
+		assertEquals("The iterations were not the expected", 1, solver.iterations());
+	}
+
+	private double residual(double[] x) {
+		double[] out = new double[x.length];
+		function.eval(x, out);
+		double max = 0;
+		for (double value : out) {
+			max = Math.max(max, Math.abs(value));
+		}
+		return max;
+	}
+
+	private static void assertRootEquals(double[] expected, double[] actual) {
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals("The root founded was not the expected", expected[i], actual[i], 0.000001);
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package ar.edu.austral.analisis4.methods.roots;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import ar.edu.austral.analisis4.functions.OneVariableFunction;
+
+@RunWith(value = Parameterized.class)
+public class RootScannerTest {
+
+	private static final double ERROR = 0.0000000001;
+
+	private OneVariableFunction function;
+	private String functionString;
+	private double a;
+	private double b;
+	private int intervals;
+	private double[] expected;
+
+	public RootScannerTest(OneVariableFunction function, String functionString,
+			 double a, double b, int intervals, double[] expected) {
+		super();
+		this.function = function;
+		this.functionString = functionString;
+		this.a = a;
+		this.b = b;
+		this.intervals = intervals;
+		this.expected = expected;
+	}
+
+	@Parameters
+    public static Collection<Object[]> data() {
+    	//Function 1
+    	final OneVariableFunction f1 = new OneVariableFunction(){
+            public double eval(double x){
+            	return Math.sin(x);
+            }
+        };
+        final String f1String = "sin(x)";
+        double[] expectedRoots1 = new double[6];
+        for (int k = 0; k < expectedRoots1.length; k++) {
+        	expectedRoots1[k] = (k + 1) * Math.PI;
+        }
+
+        //Function 2: tangent root in 1
+    	final OneVariableFunction f2 = new OneVariableFunction(){
+            public double eval(double x){
+                return (x - 1) * (x - 1) * (x - 3);
+            }
+        };
+        final String f2String = "(x - 1)^2 (x - 3)";
+
+        //Function 3: two roots inside a single cell
+    	final OneVariableFunction f3 = new OneVariableFunction(){
+            public double eval(double x){
+                return (x - 0.501) * (x - 0.503);
+            }
+        };
+        final String f3String = "(x - 0.501)(x - 0.503)";
+
+        //Function 4: a minimum that does not reach zero
+    	final OneVariableFunction f4 = new OneVariableFunction(){
+            public double eval(double x){
+                return (x - 0.5) * (x - 0.5) + 0.01;
+            }
+        };
+        final String f4String = "(x - 0.5)^2 + 0.01";
+
+        Object[][] parameters = new Object[][] {{f1, f1String, 0.5, 20, 1000, expectedRoots1},
+        										{f1, f1String, 0.5, 20, 10, expectedRoots1},
+        										{f2, f2String, 0.1, 4, 37, new double[] {1, 3}},
+        										{f3, f3String, 0, 1, 10, new double[] {0.501, 0.503}},
+        										{f3, f3String, 0, 1, 1, new double[] {0.501, 0.503}},
+        										{f2, f2String, 0.1, 2, 1, new double[] {1}},
+        										{f4, f4String, 0, 1, 10, new double[0]}};
+    	return Arrays.asList(parameters);
+    }
+
+	@Test
+	public void calculateTest(){
+		double[] roots = RootScanner.findRoots(function, a, b, intervals, ERROR);
+		System.out.println("Function: " + functionString + "\n Calculated roots: " + Arrays.toString(roots)
+				+ " Expected Roots: " + Arrays.toString(expected));
+		assertEquals("The roots founded were not the expected", expected.length, roots.length);
+		for (int i = 0; i < roots.length; i++) {
+			assertEquals("The root founded was not the expected", expected[i], roots[i], 0.000001);
+		}
+	}
+
+	@Test
+	public void calculateTestPool(){
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			// many cells, so the scan is split in several tasks
+			double[] serial = RootScanner.findRoots(function, a, b, 5000, ERROR);
+			double[] parallel = RootScanner.findRoots(function, a, b, 5000, ERROR, pool);
+			assertArrayEquals("The roots founded were not the expected", serial, parallel, 0);
+			assertEquals("The roots founded were not the expected", expected.length, parallel.length);
+		} finally {
+			pool.shutdown();
+		}
+	}
+}